@@ -0,0 +1,252 @@
+package Java.CNDC;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * Immutable packed bit vector used as the message/codeword type by the CRC engines.
+ * Bits are stored MSB-first in big-endian longs: bit 0 is the first (most significant) bit of the message and lives in
+ * the top bit of words[0]. The exact bit length is kept, so messages that are not a whole number of bytes still work.
+ * The '0'/'1' string form is only produced for display via {@link #toBinaryString()}.
+ */
+public final class BitMessage {
+    private final long[] words;
+    private final int length;
+
+    private BitMessage(long[] words, int length) {
+        this.words = words;
+        this.length = length;
+    }
+
+    /**
+     * Parses a string of '0'/'1' characters.
+     * @throws IllegalArgumentException if any other character is found.
+     */
+    public static BitMessage parse(CharSequence bits) {
+        int n = bits.length();
+        long[] words = new long[wordCount(n)];
+        for (int i = 0; i < n; i++) {
+            char c = bits.charAt(i);
+            if (c == '1') {
+                words[i >>> 6] |= Long.MIN_VALUE >>> (i & 63);
+            } else if (c != '0') {
+                throw new IllegalArgumentException("Input must be binary (0/1), found '" + c + "' at position " + (i + 1));
+            }
+        }
+        return new BitMessage(words, n);
+    }
+
+    /**
+     * Wraps whole bytes, MSB of bytes[0] first.
+     */
+    public static BitMessage ofBytes(byte[] bytes) {
+        return ofBytes(bytes, bytes.length * 8);
+    }
+
+    /**
+     * Wraps the first bitLength bits of the bytes, MSB-first.
+     */
+    public static BitMessage ofBytes(byte[] bytes, int bitLength) {
+        if (bitLength < 0 || bitLength > bytes.length * 8L) {
+            throw new IllegalArgumentException("Bit length " + bitLength + " does not fit in " + bytes.length + " bytes");
+        }
+        long[] words = new long[wordCount(bitLength)];
+        int byteCount = (bitLength + 7) / 8;
+        for (int j = 0; j < byteCount; j++) {
+            words[j >>> 3] |= (bytes[j] & 0xFFL) << (56 - 8 * (j & 7));
+        }
+        clearTail(words, bitLength);
+        return new BitMessage(words, bitLength);
+    }
+
+    /**
+     * @return The low bits of value as a message of that many bits (0 to 64), MSB first.
+     */
+    public static BitMessage of(long value, int bits) {
+        if (bits < 0 || bits > 64) throw new IllegalArgumentException("Bit count must be between 0 and 64");
+        long[] words = new long[wordCount(bits)];
+        if (bits > 0) words[0] = value << (64 - bits);
+        return new BitMessage(words, bits);
+    }
+
+    /**
+     * @return The low bits of a non-negative value as a message of that many bits, MSB first.
+     */
+    public static BitMessage of(BigInteger value, int bits) {
+        long[] words = new long[wordCount(bits)];
+        for (int i = 0; i < bits; i++) {
+            if (value.testBit(bits - 1 - i)) words[i >>> 6] |= Long.MIN_VALUE >>> (i & 63);
+        }
+        return new BitMessage(words, bits);
+    }
+
+    private static int wordCount(int bits) {
+        return (bits + 63) >>> 6;
+    }
+
+    private static void clearTail(long[] words, int bitLength) {
+        int used = bitLength & 63;
+        if (used != 0) words[words.length - 1] &= -1L << (64 - used);
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public boolean isEmpty() {
+        return length == 0;
+    }
+
+    /**
+     * @return Bit i (0 or 1), counted from the start of the message.
+     */
+    public int get(int i) {
+        return (int) (words[i >>> 6] >>> (63 - (i & 63))) & 1;
+    }
+
+    /**
+     * @return Number of whole bytes in the message.
+     */
+    public int fullBytes() {
+        return length >>> 3;
+    }
+
+    /**
+     * @return Byte j of the message (0-255). The last partial byte, if any, is left-aligned and zero padded.
+     */
+    public int byteAt(int j) {
+        return (int) (words[j >>> 3] >>> (56 - 8 * (j & 7))) & 0xFF;
+    }
+
+    /**
+     * @return Number of whole 64-bit words in the message.
+     */
+    public int fullWords() {
+        return length >>> 6;
+    }
+
+    /**
+     * @return Bits 64*i to 64*i+63 of the message as a big-endian long.
+     */
+    public long wordAt(int i) {
+        return words[i];
+    }
+
+    public BitMessage append(BitMessage other) {
+        int n = length + other.length;
+        long[] w = Arrays.copyOf(words, wordCount(n));
+        int offset = length & 63;
+        int base = length >>> 6;
+        for (int i = 0; i < other.words.length; i++) {
+            long v = other.words[i];
+            if (offset == 0) {
+                w[base + i] = v;
+            } else {
+                w[base + i] |= v >>> offset;
+                if (base + i + 1 < w.length) w[base + i + 1] = v << (64 - offset);
+            }
+        }
+        return new BitMessage(w, n);
+    }
+
+    /**
+     * @return The low bits of value appended to this message, e.g. a CRC remainder.
+     */
+    public BitMessage append(long value, int bits) {
+        return append(of(value, bits));
+    }
+
+    /**
+     * @return A copy with the bits at the given positions inverted. Positions listed twice cancel out.
+     */
+    public BitMessage withFlipped(Iterable<Integer> positions) {
+        long[] w = words.clone();
+        for (int pos : positions) {
+            if (pos < 0 || pos >= length) throw new IndexOutOfBoundsException("Bit " + pos + " outside message of " + length + " bits");
+            w[pos >>> 6] ^= Long.MIN_VALUE >>> (pos & 63);
+        }
+        return new BitMessage(w, length);
+    }
+
+    /**
+     * @return The bits from..to-1 as a new message.
+     */
+    public BitMessage slice(int from, int to) {
+        int n = to - from;
+        long[] w = new long[wordCount(n)];
+        int offset = from & 63;
+        int base = from >>> 6;
+        for (int i = 0; i < w.length; i++) {
+            long v = words[base + i] << offset;
+            if (offset != 0 && base + i + 1 < words.length) v |= words[base + i + 1] >>> (64 - offset);
+            w[i] = v;
+        }
+        clearTail(w, n);
+        return new BitMessage(w, n);
+    }
+
+    /**
+     * @return True if every bit is 0.
+     */
+    public boolean isZero() {
+        for (long w : words) if (w != 0) return false;
+        return true;
+    }
+
+    /**
+     * @return The packed bytes; a partial last byte is left-aligned and zero padded.
+     */
+    public byte[] toByteArray() {
+        byte[] out = new byte[(length + 7) >>> 3];
+        for (int j = 0; j < out.length; j++) out[j] = (byte) byteAt(j);
+        return out;
+    }
+
+    /**
+     * @return The message as an unsigned integer, first bit most significant.
+     */
+    public BigInteger toBigInteger() {
+        if (length == 0) return BigInteger.ZERO;
+        BigInteger v = new BigInteger(1, toByteArray());
+        int pad = (8 - (length & 7)) & 7;
+        return v.shiftRight(pad);
+    }
+
+    /**
+     * @return The '0'/'1' form, for display only.
+     */
+    public String toBinaryString() {
+        return toBinaryString(0, length);
+    }
+
+    public String toBinaryString(int from, int to) {
+        char[] out = new char[to - from];
+        for (int i = from; i < to; i++) out[i - from] = (char) ('0' + get(i));
+        return new String(out);
+    }
+
+    /**
+     * @return The '0'/'1' form cut after maxBits, with the full length appended, so large inputs stay cheap to log.
+     */
+    public String preview(int maxBits) {
+        if (length <= maxBits) return toBinaryString();
+        return String.format("%s… (%,d bits)", toBinaryString(0, maxBits), length);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof BitMessage)) return false;
+        BitMessage m = (BitMessage) o;
+        return length == m.length && Arrays.equals(words, m.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * length + Arrays.hashCode(words);
+    }
+
+    @Override
+    public String toString() {
+        return toBinaryString();
+    }
+}
@@ -0,0 +1,124 @@
+package Java.CNDC;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.zip.Checksum;
+
+/**
+ * Incremental, headless CRC with the full parameter model, usable wherever a {@link Checksum} is expected
+ * (e.g. {@link java.util.zip.CheckedInputStream}). Data is consumed as it arrives; nothing is buffered.
+ * MSB-first models run on the slicing-by-8 engine, reflected ones on {@link CrcReflectedEngine}.
+ * Supports CRC-1 to CRC-64. Instances are not thread-safe.
+ * <pre>
+ * Crc crc = new Crc(predefinedCRC.CRC32ISOHDLC);
+ * crc.update(bytes, 0, n);
+ * long value = crc.getValue();
+ * </pre>
+ */
+public final class Crc implements Checksum {
+    private final int degree;
+    private final long init;
+    private final boolean refIn;
+    private final boolean refOut;
+    private final long xorOut;
+    private final CrcLongEngine single;
+    private final CrcSlicingEngine sliced;
+    private final CrcReflectedEngine reflected;
+    private long register;
+
+    /**
+     * @param polyLow The polynomial without its leading x^degree term, right-aligned.
+     * @param degree Degree of the polynomial, 1 to 64.
+     * @param init Initial register, as catalogued (not reflected).
+     * @param refIn True if each input byte is read least significant bit first.
+     * @param refOut True if the final register is reflected before the final XOR.
+     * @param xorOut Value XORed into the result.
+     */
+    public Crc(long polyLow, int degree, long init, boolean refIn, boolean refOut, long xorOut) {
+        this.degree = degree;
+        this.init = init & CrcLongEngine.mask(degree);
+        this.refIn = refIn;
+        this.refOut = refOut;
+        this.xorOut = xorOut & CrcLongEngine.mask(degree);
+        this.single = new CrcLongEngine(polyLow, degree);
+        this.sliced = refIn ? null : new CrcSlicingEngine(polyLow, degree, 8);
+        this.reflected = refIn ? new CrcReflectedEngine(polyLow, degree) : null;
+        reset();
+    }
+
+    public Crc(predefinedCRC model) {
+        this(parameters(model).getPolyLow(), model.getDegree(), model.getInit(), model.isRefIn(), model.isRefOut(), model.getXorOut());
+    }
+
+    private static predefinedCRC parameters(predefinedCRC model) {
+        if (model == predefinedCRC.CUSTOM) throw new IllegalArgumentException("Custom CRC has no parameters; use Crc.of(polyBits)");
+        return model;
+    }
+
+    /**
+     * @param polyBits Polynomial bit string with the leading 1 written down; the CRC is the plain remainder
+     *                 (zero init, no reflection, no final XOR), as computed by the simulators.
+     */
+    public static Crc of(String polyBits) {
+        if (!polyBits.matches("1[01]*")) throw new IllegalArgumentException("Polynomial must be binary with a leading 1: " + polyBits);
+        return new Crc(new BigInteger(polyBits, 2).longValue(), polyBits.length() - 1, 0, false, false, 0);
+    }
+
+    public int degree() {
+        return degree;
+    }
+
+    @Override
+    public void update(int b) {
+        register = reflected != null ? reflected.update(register, b) : single.update(register, b);
+    }
+
+    @Override
+    public void update(byte[] b, int off, int len) {
+        if (off < 0 || len < 0 || off > b.length - len) throw new ArrayIndexOutOfBoundsException();
+        register = reflected != null ? reflected.update(register, b, off, len) : sliced.update(register, b, off, len);
+    }
+
+    @Override
+    public void update(ByteBuffer buffer) {
+        register = reflected != null ? reflected.update(register, buffer) : sliced.update(register, buffer);
+    }
+
+    /**
+     * Feeds a partial byte (or any run of up to 64 bits): the low count bits of bits, in the order the model reads
+     * a byte, i.e. most significant first for MSB-first models and least significant first for reflected ones.
+     * So updateBits(b, 8) is the same as update(b).
+     */
+    public void updateBits(long bits, int count) {
+        if (count < 0 || count > 64) throw new IllegalArgumentException("Bit count must be between 0 and 64, got " + count);
+        if (reflected != null) {
+            for (int i = 0; i < count; i++) register = reflected.updateBit(register, (int) (bits >>> i) & 1);
+            return;
+        }
+        int left = count;
+        for (; left >= 8; left -= 8) register = single.update(register, (int) (bits >>> (left - 8)) & 0xFF);
+        if (left > 0) register = single.updateBits(register, (int) bits & ((1 << left) - 1), left);
+    }
+
+    /**
+     * Feeds a packed message bit by bit in stream order; MSB-first models only.
+     */
+    public void update(BitMessage message) {
+        if (reflected != null) throw new IllegalArgumentException("Packed bit messages are MSB-first; use bytes for reflected CRCs");
+        register = sliced.update(register, message);
+    }
+
+    /**
+     * @return The checksum of everything fed since the last reset, with refOut and xorOut applied.
+     */
+    @Override
+    public long getValue() {
+        long value = refIn == refOut ? register : CrcReflectedEngine.reflect(register, degree);
+        return value ^ xorOut;
+    }
+
+    @Override
+    public void reset() {
+        register = refIn ? CrcReflectedEngine.reflect(init, degree) : init;
+    }
+}
@@ -0,0 +1,236 @@
+package Java.CNDC;
+
+import java.math.BigInteger;
+import java.util.function.LongConsumer;
+
+/**
+ * Table-driven MSB-first CRC engine for wide custom polynomials, degrees 65 to 128 (width 66 to 129), with the
+ * register in two longs and the 256-entry table stored as hi/lo pairs in one long array.
+ * It is the {@link CrcLongEngine} byte step carried across a 128-bit shift, so nothing is allocated per byte.
+ * The register is kept left-aligned in hi:lo internally. Callers hold it in a long[2] of {hi, lo}, right-aligned
+ * (hi carries the top degree - 64 bits), which every update method reads and overwrites in place.
+ */
+public final class Crc128Engine implements CrcEngine {
+    private final int degree;
+    private final int shift;
+    private final long polyHi;
+    private final long polyLo;
+    private final long[] table;
+
+    /**
+     * @param polyHi Bits 64 to degree-1 of the polynomial, right-aligned; the leading x^degree term is left out.
+     * @param polyLo Bits 0 to 63 of the polynomial.
+     * @param degree Degree of the polynomial (width - 1), between 65 and 128.
+     */
+    public Crc128Engine(long polyHi, long polyLo, int degree) {
+        if (degree < 65 || degree > 128) {
+            throw new IllegalArgumentException("128-bit register engine supports CRC-65 to CRC-128, got CRC-" + degree);
+        }
+        this.degree = degree;
+        this.shift = 128 - degree;
+        this.polyHi = polyHi & CrcLongEngine.mask(degree - 64);
+        this.polyLo = polyLo;
+        this.table = buildTable();
+    }
+
+    /**
+     * @param poly Full polynomial with the leading 1 set, as used by the GUIs.
+     * @param width Length of the polynomial bit string, degree = width - 1.
+     */
+    public static Crc128Engine of(BigInteger poly, int width) {
+        return new Crc128Engine(poly.shiftRight(64).longValue(), poly.longValue(), width - 1);
+    }
+
+    /**
+     * @param polyBits Polynomial bit string with the leading 1 written down.
+     */
+    public static Crc128Engine of(String polyBits) {
+        return of(new BigInteger(polyBits, 2), polyBits.length());
+    }
+
+    /**
+     * @return True if a polynomial of this width (degree = width - 1) needs and fits the 128-bit register.
+     */
+    public static boolean fits(int width) {
+        return width >= 66 && width <= 129;
+    }
+
+    @Override
+    public String name() {
+        return "128-bit register";
+    }
+
+    @Override
+    public int degree() {
+        return degree;
+    }
+
+    @Override
+    public boolean traces() {
+        return true;
+    }
+
+    /**
+     * Builds the left-aligned table: entries 2i and 2i+1 are the hi and lo words of byte i shifted through 8
+     * MSB-first steps.
+     */
+    private long[] buildTable() {
+        long alignedHi = shift == 0 ? polyHi : polyHi << shift | polyLo >>> (64 - shift);
+        long alignedLo = polyLo << shift;
+        long[] t = new long[512];
+        for (int i = 0; i < 256; i++) {
+            long hi = (long) i << 56;
+            long lo = 0;
+            for (int j = 0; j < 8; j++) {
+                boolean top = hi < 0;
+                hi = hi << 1 | lo >>> 63;
+                lo <<= 1;
+                if (top) {
+                    hi ^= alignedHi;
+                    lo ^= alignedLo;
+                }
+            }
+            t[2 * i] = hi;
+            t[2 * i + 1] = lo;
+        }
+        return t;
+    }
+
+    /**
+     * @return A zero register, {hi, lo}.
+     */
+    public static long[] newRegister() {
+        return new long[2];
+    }
+
+    private long alignHi(long[] reg) {
+        return shift == 0 ? reg[0] : reg[0] << shift | reg[1] >>> (64 - shift);
+    }
+
+    private void store(long[] reg, long hi, long lo) {
+        reg[0] = shift == 0 ? hi : hi >>> shift;
+        reg[1] = shift == 0 ? lo : lo >>> shift | hi << (64 - shift);
+    }
+
+    /**
+     * Continues a CRC over whole bytes.
+     */
+    public void update(long[] reg, byte[] bytes, int off, int len) {
+        long hi = alignHi(reg);
+        long lo = reg[1] << shift;
+        for (int i = off, end = off + len; i < end; i++) {
+            int idx = 2 * ((int) ((hi >>> 56) ^ bytes[i]) & 0xFF);
+            hi = (hi << 8 | lo >>> 56) ^ table[idx];
+            lo = (lo << 8) ^ table[idx + 1];
+        }
+        store(reg, hi, lo);
+    }
+
+    /**
+     * Continues a CRC over one byte (low 8 bits of b).
+     * @return The table index used, for tracing.
+     */
+    public int update(long[] reg, int b) {
+        long hi = alignHi(reg);
+        long lo = reg[1] << shift;
+        int index = (int) ((hi >>> 56) ^ b) & 0xFF;
+        store(reg, (hi << 8 | lo >>> 56) ^ table[2 * index], (lo << 8) ^ table[2 * index + 1]);
+        return index;
+    }
+
+    /**
+     * Continues a CRC over a single bit (MSB-first), used for tails that are not a whole byte.
+     */
+    public void updateBit(long[] reg, int bit) {
+        long top = (reg[0] >>> (degree - 65) ^ bit) & 1;
+        long hi = (reg[0] << 1 | reg[1] >>> 63) & CrcLongEngine.mask(degree - 64);
+        long lo = reg[1] << 1;
+        reg[0] = top != 0 ? hi ^ polyHi : hi;
+        reg[1] = top != 0 ? lo ^ polyLo : lo;
+    }
+
+    /**
+     * Continues a CRC over the whole bytes fromByte to toByte-1 of a packed message, so long messages can be
+     * processed in chunks.
+     */
+    public void update(long[] reg, BitMessage message, int fromByte, int toByte) {
+        long hi = alignHi(reg);
+        long lo = reg[1] << shift;
+        for (int j = fromByte; j < toByte; j++) {
+            int idx = 2 * ((int) ((hi >>> 56) ^ message.byteAt(j)) & 0xFF);
+            hi = (hi << 8 | lo >>> 56) ^ table[idx];
+            lo = (lo << 8) ^ table[idx + 1];
+        }
+        store(reg, hi, lo);
+    }
+
+    /**
+     * Continues a CRC over the bits after the last whole byte of the message.
+     */
+    public void updateTail(long[] reg, BitMessage message) {
+        for (int k = message.fullBytes() * 8; k < message.length(); k++) {
+            updateBit(reg, message.get(k));
+        }
+    }
+
+    /**
+     * Continues a CRC over a packed message, byte-wise for whole bytes and bitwise for the tail.
+     */
+    public void update(long[] reg, BitMessage message) {
+        update(reg, message, 0, message.fullBytes());
+        updateTail(reg, message);
+    }
+
+    /**
+     * @return The register as a degree-bit message, ready to append to the data.
+     */
+    public BitMessage toMessage(long[] reg) {
+        return BitMessage.of(reg[0], degree - 64).append(reg[1], 64);
+    }
+
+    /**
+     * @return The remainder of the message (zero initial register, no augmentation).
+     */
+    public BitMessage remainder(BitMessage message) {
+        long[] reg = newRegister();
+        update(reg, message);
+        return toMessage(reg);
+    }
+
+    /**
+     * Runs over the message in chunks of {@link #PROGRESS_CHUNK_BYTES}, or byte by byte when recording the trace.
+     */
+    @Override
+    public BitMessage compute(BitMessage message, CrcTrace trace, LongConsumer progress) {
+        long[] reg = newRegister();
+        int bytes = message.fullBytes();
+        if (trace == null) {
+            for (int from = 0; from < bytes; from += PROGRESS_CHUNK_BYTES) {
+                int to = Math.min(bytes, from + PROGRESS_CHUNK_BYTES);
+                update(reg, message, from, to);
+                if (progress != null) progress.accept(8L * to);
+            }
+            updateTail(reg, message);
+        } else {
+            for (int j = 0; j < bytes; j++) {
+                int byteVal = message.byteAt(j);
+                int index = update(reg, byteVal);
+                trace.record(CrcTrace.BYTE_STEP, j + 1, byteVal, index, reg[0], reg[1]);
+                if (progress != null && (j & (PROGRESS_CHUNK_BYTES - 1)) == 0) progress.accept(8L * j);
+            }
+            for (int k = bytes * 8; k < message.length(); k++) {
+                updateBit(reg, message.get(k));
+                trace.record(CrcTrace.BIT_STEP, k - bytes * 8 + 1, message.get(k), k, reg[0], reg[1]);
+            }
+        }
+        if (progress != null) progress.accept(message.length());
+        return toMessage(reg);
+    }
+
+    /**
+     * @return The register as a binary string padded to degree bits.
+     */
+    public String toBinary(long[] reg) {
+        return toMessage(reg).toBinaryString();
+    }
+}
@@ -0,0 +1,138 @@
+package Java.CNDC;
+
+import java.math.BigInteger;
+import java.util.function.LongConsumer;
+
+/**
+ * The BigInteger simulator's algorithms: bitwise MSB-first long division of the whole message held in one BigInteger,
+ * or byte by byte through a 256-entry table of BigInteger remainders. Any width works.
+ * The bitwise division XORs a shifted copy of the polynomial into the full message at every step, so its cost grows
+ * with the square of the message length; it is the reference the faster engines are checked against. The table
+ * keeps only a degree-bit register, so it is linear in the message; below CRC-8 the register is padded to a byte.
+ */
+public final class CrcBigIntegerEngine implements CrcEngine {
+    private static final int BIT_PROGRESS_STEP = 1 << 12;
+
+    private final BigInteger poly;
+    private final int width;
+    private final BigInteger[] table;
+
+    /**
+     * @param poly polynomial as BigInteger with bit-length width (leading 1 set)
+     * @param width length of polynomial (poly bitstring length), degree = width - 1
+     */
+    public CrcBigIntegerEngine(BigInteger poly, int width) {
+        this(poly, width, false);
+    }
+
+    /**
+     * @param poly polynomial as BigInteger with bit-length width (leading 1 set)
+     * @param width length of polynomial (poly bitstring length), degree = width - 1
+     * @param lookup True for the byte-wise table algorithm, false for bitwise division.
+     */
+    public CrcBigIntegerEngine(BigInteger poly, int width, boolean lookup) {
+        if (width < 2 || poly.bitLength() != width) throw new IllegalArgumentException("Polynomial must have its leading 1 at bit " + (width - 1) + " and degree 1 or higher");
+        this.poly = poly;
+        this.width = width;
+        this.table = lookup ? buildCrcTable(poly, width) : null;
+    }
+
+    /**
+     * @param polyBits Polynomial bit string with the leading 1 written down.
+     */
+    public static CrcBigIntegerEngine of(String polyBits) {
+        return of(polyBits, false);
+    }
+
+    /**
+     * @param polyBits Polynomial bit string with the leading 1 written down.
+     * @param lookup True for the byte-wise table algorithm, false for bitwise division.
+     */
+    public static CrcBigIntegerEngine of(String polyBits, boolean lookup) {
+        return new CrcBigIntegerEngine(new BigInteger(polyBits, 2), polyBits.length(), lookup);
+    }
+
+    @Override
+    public String name() {
+        return table != null ? "BigInteger lookup table" : "BigInteger bitwise";
+    }
+
+    @Override
+    public int degree() {
+        return width - 1;
+    }
+
+    @Override
+    public BitMessage compute(BitMessage message, CrcTrace trace, LongConsumer progress) {
+        if (table != null) return lookup(message, progress);
+        int degree = width - 1;
+        BigInteger msg = message.toBigInteger().shiftLeft(degree);
+        int totalBits = message.length() + degree;
+
+        for (int i = totalBits - 1; i >= degree; i--) {
+            if (msg.testBit(i)) {
+                msg = msg.xor(poly.shiftLeft(i - degree));
+            }
+            if (progress != null && ((totalBits - i) & (BIT_PROGRESS_STEP - 1)) == 0) progress.accept(totalBits - i);
+        }
+        if (progress != null) progress.accept(message.length());
+
+        BigInteger remainder = msg.and(BigInteger.ONE.shiftLeft(degree).subtract(BigInteger.ONE));
+        return BitMessage.of(remainder, degree);
+    }
+
+    /**
+     * Build a 256-entry CRC table for the MSB-first (non-reflected) algorithm: entry i is the byte i shifted through
+     * 8 steps of a register of max(degree, 8) bits, the remainder at its top.
+     */
+    private static BigInteger[] buildCrcTable(BigInteger poly, int width) {
+        int degree = width - 1;
+        int regBits = Math.max(degree, 8);
+        BigInteger maskFull = BigInteger.ONE.shiftLeft(regBits).subtract(BigInteger.ONE);
+        BigInteger polyXor = poly.shiftLeft(regBits - degree).and(maskFull); // Remove leading bit (x^degree)
+
+        BigInteger[] table = new BigInteger[256];
+        for (int i = 0; i < 256; i++) {
+            BigInteger crc = BigInteger.valueOf(i).shiftLeft(regBits - 8);
+            for (int j = 0; j < 8; j++) {
+                if (crc.testBit(regBits - 1)) {
+                    crc = crc.shiftLeft(1).xor(polyXor).and(maskFull);
+                } else {
+                    crc = crc.shiftLeft(1).and(maskFull);
+                }
+            }
+            table[i] = crc;
+        }
+        return table;
+    }
+
+    /**
+     * Processes the message byte by byte through the table; the bits after the last whole byte are done bitwise.
+     */
+    private BitMessage lookup(BitMessage message, LongConsumer progress) {
+        int degree = width - 1;
+        int regBits = Math.max(degree, 8);
+        BigInteger maskFull = BigInteger.ONE.shiftLeft(regBits).subtract(BigInteger.ONE);
+        BigInteger polyXor = poly.shiftLeft(regBits - degree).and(maskFull);
+        int fullBytes = message.fullBytes();
+
+        BigInteger crc = BigInteger.ZERO;
+        for (int i = 0; i < fullBytes; i++) {
+            int crcTop = crc.shiftRight(regBits - 8).intValue();
+            int index = (crcTop ^ message.byteAt(i)) & 0xFF;
+            crc = crc.shiftLeft(8).xor(table[index]).and(maskFull);
+            if (progress != null && (i & (PROGRESS_CHUNK_BYTES - 1)) == 0) progress.accept(8L * i);
+        }
+
+        for (int k = fullBytes * 8; k < message.length(); k++) {
+            if (message.get(k) == 1) crc = crc.flipBit(regBits - 1);
+            if (crc.testBit(regBits - 1)) {
+                crc = crc.shiftLeft(1).xor(polyXor).and(maskFull);
+            } else {
+                crc = crc.shiftLeft(1).and(maskFull);
+            }
+        }
+        if (progress != null) progress.accept(message.length());
+        return BitMessage.of(crc.shiftRight(regBits - degree), degree);
+    }
+}
@@ -0,0 +1,187 @@
+package Java.CNDC;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+
+/**
+ * Headless command-line front end for the CRC core, for servers without a display.
+ * The file is streamed through {@link FileChannel#map} in fixed windows, so its size is not limited by the heap.
+ * <pre>
+ * java Java.CNDC.CrcCli compute --poly CRC-32 [--slices 1|8|16 | --fold] [--window-mb 64] file
+ * java Java.CNDC.CrcCli verify  --poly 100000111 [--expect 0x1F] file
+ * java Java.CNDC.CrcCli compute --poly CRC-64-ISO --threads 8 [--chunk-kb 1024] file
+ * </pre>
+ * verify without --expect treats the file as a codeword (data followed by its remainder) and checks for a zero remainder.
+ * Catalogued models such as CRC-32/ISO-HDLC apply their init, reflection and final XOR and print the checksum;
+ * reflected models run on {@link CrcReflectedEngine}, so --slices does not apply to them.
+ * With --threads above 1 each window is split into chunks hashed in parallel and merged with {@link CrcCombine}.
+ * Exit status: 0 on success, 1 if verification fails, 2 on bad usage or I/O errors.
+ */
+public final class CrcCli {
+    private static final String USAGE = String.join("\n",
+            "Usage: CrcCli <compute|verify> --poly <name|bits> [options] <file>",
+            "  --poly       predefined CRC name (e.g. CRC-32, CRC-32/ISO-HDLC, CRC64XZ) or polynomial bits with leading 1",
+            "  --slices     bytes per table step: 1, 8 or 16 (default 8)",
+            "  --fold       use the carry-less folding engine instead of tables (MSB-first, one thread)",
+            "  --window-mb  size of each memory-mapped window in MiB (default 64)",
+            "  --threads    worker threads per window (default 1, sequential)",
+            "  --chunk-kb   bytes per parallel task in KiB (default 1024)",
+            "  --expect     expected remainder for verify, hex (0x..) or binary; omit to check a codeword");
+
+    private CrcCli() {
+    }
+
+    public static void main(String[] args) {
+        try {
+            System.exit(run(args));
+        } catch (IllegalArgumentException ex) {
+            System.err.println("Error: " + ex.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+        } catch (IOException ex) {
+            System.err.println("I/O error: " + ex.getMessage());
+            System.exit(2);
+        }
+    }
+
+    static int run(String[] args) throws IOException {
+        if (args.length == 0) throw new IllegalArgumentException("Missing command.");
+        String command = args[0];
+        if (!command.equals("compute") && !command.equals("verify")) {
+            throw new IllegalArgumentException("Unknown command: " + command);
+        }
+        String polyArg = null;
+        String expect = null;
+        String file = null;
+        int slices = 8;
+        boolean fold = false;
+        long window = 64L << 20;
+        int threads = 1;
+        int chunk = CrcParallel.DEFAULT_CHUNK_BYTES;
+        for (int i = 1; i < args.length; i++) {
+            switch (args[i]) {
+                case "--poly" -> polyArg = value(args, ++i);
+                case "--slices" -> slices = parseInt(args[i], value(args, ++i));
+                case "--fold" -> fold = true;
+                case "--window-mb" -> window = (long) parseInt(args[i], value(args, ++i)) << 20;
+                case "--expect" -> expect = value(args, ++i);
+                case "--threads" -> threads = parseInt(args[i], value(args, ++i));
+                case "--chunk-kb" -> chunk = parseInt(args[i], value(args, ++i)) << 10;
+                default -> {
+                    if (args[i].startsWith("--")) throw new IllegalArgumentException("Unknown option: " + args[i]);
+                    if (file != null) throw new IllegalArgumentException("Only one input file is supported.");
+                    file = args[i];
+                }
+            }
+        }
+        if (polyArg == null) throw new IllegalArgumentException("--poly is required.");
+        if (file == null) throw new IllegalArgumentException("Input file is required.");
+        if (slices != 1 && slices != 8 && slices != 16) throw new IllegalArgumentException("--slices must be 1, 8 or 16.");
+        if (window <= 0 || window > Integer.MAX_VALUE) throw new IllegalArgumentException("--window-mb must be between 1 and 2047.");
+        if (threads < 1) throw new IllegalArgumentException("--threads must be at least 1.");
+        if (chunk <= 0) throw new IllegalArgumentException("--chunk-kb must be between 1 and 2097151.");
+
+        String polyBits = resolvePoly(polyArg);
+        predefinedCRC model = resolveModel(polyArg);
+        boolean modelled = model != null && !model.isPlain();
+        if (modelled && command.equals("verify") && expect == null) {
+            throw new IllegalArgumentException("verify with " + model + " needs --expect; only plain CRCs leave a zero codeword remainder.");
+        }
+        if (!CrcLongEngine.fits(polyBits.length())) {
+            throw new IllegalArgumentException("Headless mode supports CRC-1 to CRC-64, got CRC-" + (polyBits.length() - 1));
+        }
+        CrcLongEngine single = CrcLongEngine.of(polyBits);
+        CrcSlicingEngine sliced = slices > 1 ? CrcSlicingEngine.of(polyBits, slices) : null;
+        CrcFoldingEngine folding = fold ? CrcFoldingEngine.of(polyBits) : null;
+        CrcReflectedEngine reflected = modelled && model.isRefIn() ? new CrcReflectedEngine(model.getPolyLow(), model.getDegree()) : null;
+        if (fold && (reflected != null || threads > 1)) {
+            throw new IllegalArgumentException("--fold runs MSB-first on one thread; drop it for reflected models or --threads.");
+        }
+        int degree = polyBits.length() - 1;
+
+        Path path = Paths.get(file);
+        long size = Files.size(path);
+        long crc = modelled ? model.initialRegister() : 0;
+        long start = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+             CrcParallel parallel = threads > 1 ? new CrcParallel(new BigInteger(polyBits, 2).longValue(), degree, slices, reflected != null, chunk, threads) : null) {
+            for (long pos = 0; pos < size; pos += window) {
+                MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, pos, Math.min(window, size - pos));
+                crc = parallel != null ? parallel.update(crc, buf) : reflected != null ? reflected.update(crc, buf)
+                        : folding != null ? folding.update(crc, buf) : sliced != null ? sliced.update(crc, buf) : single.update(crc, buf);
+            }
+        }
+        if (modelled) crc = model.finish(crc);
+        long elapsed = System.nanoTime() - start;
+
+        System.out.println("File: " + path + " (" + size + " bytes)");
+        System.out.println("Polynomial (CRC-" + degree + "): " + polyBits);
+        System.out.println((modelled ? "Checksum (" + model + "): " : "Remainder: ") + toHex(crc, degree) + " (" + single.toBinary(crc) + ")");
+        System.out.println(String.format(Locale.ROOT, "Elapsed: %.3f ms | Throughput: %.1f MB/s | Threads: %d",
+                elapsed / 1e6, size / 1e6 / Math.max(elapsed / 1e9, 1e-9), threads));
+
+        if (command.equals("compute")) return 0;
+        long expected = expect == null ? 0 : parseRemainder(expect, degree);
+        boolean valid = crc == expected;
+        System.out.println(valid ? "No error." : "Error detected (expected " + toHex(expected, degree) + ").");
+        return valid ? 0 : 1;
+    }
+
+    /**
+     * @return The predefinedCRC named by arg (constant or display name, case-insensitive), or null for custom bits.
+     */
+    static predefinedCRC resolveModel(String arg) {
+        for (predefinedCRC crc : predefinedCRC.values()) {
+            if (crc != predefinedCRC.CUSTOM && (crc.name().equalsIgnoreCase(arg) || crc.toString().equalsIgnoreCase(arg))) {
+                return crc;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Accepts a predefinedCRC constant name or display name (case-insensitive), or a custom polynomial bit string.
+     */
+    static String resolvePoly(String arg) {
+        predefinedCRC model = resolveModel(arg);
+        if (model != null) return model.getPoly();
+        if (!arg.matches("[01]+")) throw new IllegalArgumentException("Unknown CRC name or invalid polynomial: " + arg);
+        if (arg.charAt(0) != '1') throw new IllegalArgumentException("Polynomial must start with 1.");
+        return arg;
+    }
+
+    static String toHex(long crc, int degree) {
+        String hex = Long.toHexString(crc).toUpperCase(Locale.ROOT);
+        return "0x" + "0".repeat(Math.max(0, (degree + 3) / 4 - hex.length())) + hex;
+    }
+
+    private static long parseRemainder(String s, int degree) {
+        try {
+            long v = s.startsWith("0x") || s.startsWith("0X") ? Long.parseUnsignedLong(s.substring(2), 16) : Long.parseUnsignedLong(s, 2);
+            if ((v & ~CrcLongEngine.mask(degree)) != 0) throw new IllegalArgumentException("--expect is wider than CRC-" + degree);
+            return v;
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid --expect value: " + s);
+        }
+    }
+
+    private static String value(String[] args, int i) {
+        if (i >= args.length) throw new IllegalArgumentException("Missing value for " + args[i - 1]);
+        return args[i];
+    }
+
+    private static int parseInt(String option, String s) {
+        try {
+            return Integer.parseInt(s);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid number for " + option + ": " + s);
+        }
+    }
+}
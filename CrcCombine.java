@@ -0,0 +1,85 @@
+package Java.CNDC;
+
+/**
+ * GF(2) arithmetic modulo a CRC polynomial, used to merge CRCs of adjacent pieces of a message (crc_combine).
+ * For the MSB-first register, crc(A || B) = crc(A) * x^|B| mod P  xor  crc(B), where crc(B) starts from 0 and
+ * |B| is the length of B in bits; crc(A) may start from any initial register. x^n mod P is assembled from the
+ * precomputed powers x^(2^k) mod P, so a combine costs at most 64 carry-less multiplications of degree-bit values.
+ */
+public final class CrcCombine {
+    private final int degree;
+    private final long polyLow;
+    private final long mask;
+    private final long[] powers = new long[64];
+
+    /**
+     * @param polyLow The polynomial without its leading x^degree term, right-aligned.
+     * @param degree Degree of the polynomial, between 1 and 64.
+     */
+    public CrcCombine(long polyLow, int degree) {
+        if (degree < 1 || degree > 64) {
+            throw new IllegalArgumentException("Combine supports CRC-1 to CRC-64, got CRC-" + degree);
+        }
+        this.degree = degree;
+        this.mask = CrcLongEngine.mask(degree);
+        this.polyLow = polyLow & mask;
+        powers[0] = timesX(1);
+        for (int k = 1; k < 64; k++) {
+            powers[k] = multiply(powers[k - 1], powers[k - 1]);
+        }
+    }
+
+    public int degree() {
+        return degree;
+    }
+
+    private long timesX(long a) {
+        long carry = (a >>> (degree - 1)) & 1;
+        a = (a << 1) & mask;
+        return carry != 0 ? a ^ polyLow : a;
+    }
+
+    /**
+     * @return a * b mod P, both operands reduced (below x^degree).
+     */
+    public long multiply(long a, long b) {
+        long r = 0;
+        for (int i = degree - 1; i >= 0; i--) {
+            r = timesX(r);
+            if (((b >>> i) & 1) != 0) r ^= a;
+        }
+        return r;
+    }
+
+    /**
+     * @return x^n mod P for n >= 0.
+     */
+    public long xPow(long n) {
+        if (n < 0) throw new IllegalArgumentException("Exponent cannot be negative");
+        long r = 1;
+        for (int k = 0; n != 0; k++, n >>>= 1) {
+            if ((n & 1) != 0) r = multiply(r, powers[k]);
+        }
+        return r;
+    }
+
+    /**
+     * Merges the MSB-first CRCs of two adjacent pieces.
+     * @param crcA Register after the first piece (from any initial register).
+     * @param crcB Register after the second piece, started from 0.
+     * @param bitsB Length of the second piece in bits.
+     * @return The register after both pieces, as if computed sequentially.
+     */
+    public long combine(long crcA, long crcB, long bitsB) {
+        return multiply(crcA, xPow(bitsB)) ^ crcB;
+    }
+
+    /**
+     * {@link #combine} for registers of {@link CrcReflectedEngine}, which hold the MSB-first register bit-reversed.
+     */
+    public long combineReflected(long crcA, long crcB, long bitsB) {
+        long a = CrcReflectedEngine.reflect(crcA, degree);
+        long b = CrcReflectedEngine.reflect(crcB, degree);
+        return CrcReflectedEngine.reflect(combine(a, b, bitsB), degree);
+    }
+}
@@ -0,0 +1,156 @@
+package Java.CNDC;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Corrects single-bit errors and short bursts in a codeword of fixed length from its syndrome alone.
+ * Every burst of up to maxBurst bits (first and last bit flipped, any bits between) is listed once with its syndrome,
+ * the XOR of the per-bit contributions x^(n-1-i+degree) mod P (see {@link CrcSyndrome}), in a primitive
+ * open-addressing table keyed on the syndrome. Shorter bursts are entered first and keep their slot; two bursts of the
+ * same length with the same syndrome make it ambiguous, so it is reported as uncorrectable rather than guessed.
+ * Build once per (polynomial, codeword length, burst length) and reuse; lookups do not allocate.
+ * Supports CRC-1 to CRC-64.
+ */
+public final class CrcCorrector {
+    /** Most bursts indexed; the table then takes under 100 MB. */
+    public static final int MAX_ENTRIES = 1 << 20;
+    /** Longest correctable burst. */
+    public static final int MAX_BURST = 24;
+
+    /**
+     * A located error.
+     * @param start First flipped bit, 0 for the first bit of the codeword.
+     * @param pattern Flipped bits from start, most significant first: bit burst-1-j set means bit start+j flipped.
+     * @param burst Burst length, from the first to the last flipped bit.
+     */
+    public record Correction(int start, long pattern, int burst) {
+        /**
+         * @return The flipped positions in increasing order.
+         */
+        public List<Integer> positions() {
+            List<Integer> positions = new ArrayList<>();
+            for (int j = 0; j < burst; j++) {
+                if ((pattern >>> (burst - 1 - j) & 1) != 0) positions.add(start + j);
+            }
+            return positions;
+        }
+    }
+
+    private final int length;
+    private final int maxBurst;
+    private final long[] contributions;
+    private final long[] keys;
+    private final int[] starts; //-1 for an ambiguous syndrome
+    private final long[] patterns;
+    private final byte[] bursts; //0 for an empty slot
+
+    /**
+     * @param polyLow The polynomial without its leading x^degree term, right-aligned.
+     * @param degree Degree of the polynomial, 1 to 64.
+     * @param length Codeword length in bits.
+     * @param maxBurst Longest burst to correct, 1 for single-bit errors only.
+     */
+    public CrcCorrector(long polyLow, int degree, int length, int maxBurst) {
+        if (length < 1) throw new IllegalArgumentException("Codeword length must be at least 1 bit");
+        if (maxBurst < 1 || maxBurst > MAX_BURST) throw new IllegalArgumentException("Burst length must be between 1 and " + MAX_BURST);
+        long entries = 0;
+        for (int b = 1; b <= Math.min(maxBurst, length); b++) entries += (long) (length - b + 1) << Math.max(0, b - 2);
+        if (entries > MAX_ENTRIES) {
+            throw new IllegalArgumentException(String.format("Correcting %d-bit bursts in %d bits needs %,d syndromes, more than %,d", maxBurst, length, entries, MAX_ENTRIES));
+        }
+        this.length = length;
+        this.maxBurst = maxBurst;
+        long mask = CrcLongEngine.mask(degree);
+        long poly = polyLow & mask;
+        contributions = new long[length];
+        long c = new CrcSyndrome(polyLow, degree).contribution(length, length - 1);
+        for (int i = length - 1; i >= 0; i--) {
+            contributions[i] = c;
+            long top = (c >>> (degree - 1)) & 1;
+            c = (c << 1) & mask;
+            if (top != 0) c ^= poly;
+        }
+
+        int capacity = Integer.highestOneBit((int) Math.max(2, entries) * 2 - 1) * 2;
+        keys = new long[capacity];
+        starts = new int[capacity];
+        patterns = new long[capacity];
+        bursts = new byte[capacity];
+        for (int b = 1; b <= Math.min(maxBurst, length); b++) {
+            long interior = b > 2 ? 1L << (b - 2) : 1;
+            for (int start = 0; start + b <= length; start++) {
+                for (long mid = 0; mid < interior; mid++) {
+                    long pattern = b == 1 ? 1 : 1L << (b - 1) | mid << 1 | 1;
+                    long s = 0;
+                    for (int j = 0; j < b; j++) {
+                        if ((pattern >>> (b - 1 - j) & 1) != 0) s ^= contributions[start + j];
+                    }
+                    int slot = slot(s);
+                    if (bursts[slot] == 0) {
+                        keys[slot] = s;
+                        starts[slot] = start;
+                        patterns[slot] = pattern;
+                        bursts[slot] = (byte) b;
+                    } else if (bursts[slot] == b) {
+                        starts[slot] = -1;
+                    }
+                }
+            }
+        }
+    }
+
+    public static CrcCorrector of(String polyBits, int length, int maxBurst) {
+        return new CrcCorrector(new BigInteger(polyBits, 2).longValue(), polyBits.length() - 1, length, maxBurst);
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public int maxBurst() {
+        return maxBurst;
+    }
+
+    private int slot(long key) {
+        int m = keys.length - 1;
+        int i = (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & m;
+        while (bursts[i] != 0 && keys[i] != key) i = (i + 1) & m;
+        return i;
+    }
+
+    /**
+     * @return The syndrome of a codeword of this corrector's length, zero for a valid one.
+     */
+    public long syndrome(BitMessage codeword) {
+        if (codeword.length() != length) throw new IllegalArgumentException("Codeword has " + codeword.length() + " bits, corrector expects " + length);
+        long s = 0;
+        for (int w = 0; w * 64 < length; w++) {
+            long bits = codeword.wordAt(w);
+            while (bits != 0) {
+                int j = Long.numberOfLeadingZeros(bits);
+                s ^= contributions[w * 64 + j];
+                bits &= ~(Long.MIN_VALUE >>> j);
+            }
+        }
+        return s;
+    }
+
+    /**
+     * @return The burst with this syndrome, or null if the syndrome is zero, not indexed, or ambiguous.
+     */
+    public Correction locate(long syndrome) {
+        if (syndrome == 0) return null;
+        int slot = slot(syndrome);
+        if (bursts[slot] == 0 || starts[slot] < 0) return null;
+        return new Correction(starts[slot], patterns[slot], bursts[slot]);
+    }
+
+    /**
+     * @return The correction for a codeword with a non-zero syndrome, or null if it is valid or uncorrectable.
+     */
+    public Correction locate(BitMessage codeword) {
+        return locate(syndrome(codeword));
+    }
+}
@@ -0,0 +1,41 @@
+package Java.CNDC;
+
+import java.util.function.LongConsumer;
+
+/**
+ * A CRC backend behind one call: the plain MSB-first remainder (zero initial register, no reflection, no final XOR)
+ * of a packed message, i.e. message * x^degree mod P, so a codeword is valid when its remainder is zero.
+ * Implemented by the String and BigInteger simulators' algorithms ({@link CrcStringEngine},
+ * {@link CrcBigIntegerEngine}) and by the primitive engines. {@link CrcEngineSelector} picks one per run, so
+ * callers do not hard-code a backend. Engines holding threads release them in {@link #close()}.
+ */
+public interface CrcEngine extends AutoCloseable {
+    /** Bytes processed between two progress reports (and cancel checks). */
+    int PROGRESS_CHUNK_BYTES = 1 << 16;
+
+    /**
+     * @return Short name for logs, e.g. "slicing-by-8".
+     */
+    String name();
+
+    int degree();
+
+    /**
+     * @param trace Receives every step when non-null and the engine {@link #traces()}; ignored otherwise.
+     * @param progress Receives the message bits processed so far, or null; an exception it throws (e.g. a
+     *                 cancellation) stops the run and is rethrown.
+     * @return The degree-bit remainder.
+     */
+    BitMessage compute(BitMessage message, CrcTrace trace, LongConsumer progress);
+
+    /**
+     * @return True if {@link #compute} can record its calculation steps.
+     */
+    default boolean traces() {
+        return false;
+    }
+
+    @Override
+    default void close() {
+    }
+}
@@ -0,0 +1,149 @@
+package Java.CNDC;
+
+/**
+ * Picks the fastest correct {@link CrcEngine} for a run from the polynomial width, the message length and its bit
+ * alignment, and records why, so callers stop choosing between bitwise and table code themselves.
+ * The order follows measurements on the packed-message path: slicing-by-8 beats the single table once a message has
+ * a whole 8-byte block, slicing-by-16 and the software carry-less folding never beat slicing-by-8 on the JVM, and
+ * fork/join only pays once the message spans two chunks. CRCs narrower than a byte run on the same left-aligned long
+ * register. Where no primitive register fits (above CRC-128) the BigInteger table is the fastest: it keeps only a
+ * degree-bit register, so it is linear in the message, and beat both bitwise divisions from 1 Kibit up.
+ * The String table rebuilds a degree-length string per byte and is only picked to trace those widths. Tail bits after
+ * the last whole byte take one tail-table lookup on the long register engines and run bitwise on the others.
+ * Asking for the trace narrows the choice to engines that record steps.
+ */
+public final class CrcEngineSelector {
+    /** Shortest message, in whole bytes, that slicing-by-8 runs faster than the single table. */
+    static final int SLICING_MIN_BYTES = 8;
+
+    /**
+     * An engine to run, or AUTO to let {@link #select} decide.
+     */
+    public enum Backend {
+        AUTO("Auto"),
+        STRING_BITWISE("String bitwise"),
+        STRING_TABLE("String lookup table"),
+        BIGINTEGER_BITWISE("BigInteger bitwise"),
+        BIGINTEGER_TABLE("BigInteger lookup table"),
+        SARWATE("Long register table"),
+        SLICING_8("Slicing-by-8"),
+        SLICING_16("Slicing-by-16"),
+        FOLDING("Carry-less folding"),
+        PARALLEL("Fork/join parallel"),
+        WIDE_128("128-bit register");
+
+        private final String label;
+
+        Backend(String label) {
+            this.label = label;
+        }
+
+        /**
+         * @return True if this backend can run a polynomial of this width (degree = width - 1).
+         */
+        public boolean supports(int width) {
+            return switch (this) {
+                case AUTO, STRING_BITWISE, STRING_TABLE, BIGINTEGER_BITWISE, BIGINTEGER_TABLE -> width >= 2;
+                case SARWATE, SLICING_8, SLICING_16, FOLDING, PARALLEL -> CrcLongEngine.fits(width);
+                case WIDE_128 -> Crc128Engine.fits(width);
+            };
+        }
+
+        /**
+         * @return The supported degrees, for error messages.
+         */
+        public String range() {
+            return switch (this) {
+                case AUTO, STRING_BITWISE, STRING_TABLE, BIGINTEGER_BITWISE, BIGINTEGER_TABLE -> "CRC-1 and above";
+                case SARWATE, SLICING_8, SLICING_16, FOLDING, PARALLEL -> "CRC-1 to CRC-64";
+                case WIDE_128 -> "CRC-65 to CRC-128";
+            };
+        }
+
+        @Override
+        public String toString() {
+            return label;
+        }
+    }
+
+    /**
+     * The engine picked for a run and why.
+     */
+    public record Choice(CrcEngine engine, Backend backend, String reason) {
+        @Override
+        public String toString() {
+            return engine.name() + " (" + reason + ")";
+        }
+    }
+
+    private CrcEngineSelector() {
+    }
+
+    /**
+     * @param requested The backend asked for; anything but AUTO is created as is, if it supports the width.
+     * @param polyBits Polynomial bit string with the leading 1 written down.
+     * @param messageBits Length of the message to run.
+     * @param trace True if the calculation steps should be recorded.
+     * @param threads Worker threads available, 1 for sequential.
+     * @return The engine, which the caller closes when done.
+     */
+    public static Choice select(Backend requested, String polyBits, long messageBits, boolean trace, int threads) {
+        int width = polyBits.length();
+        if (!requested.supports(width)) {
+            throw new IllegalArgumentException(requested + " only supports " + requested.range() + ". Choose a different polynomial or engine.");
+        }
+        if (requested != Backend.AUTO) return new Choice(create(requested, polyBits, threads), requested, "chosen manually");
+
+        long bytes = messageBits / 8;
+        int tail = (int) (messageBits % 8);
+        String shape = String.format("CRC-%d, %,d bytes + %d bits", width - 1, bytes, tail);
+        Backend backend;
+        String why;
+        if (width > 129 && trace) {
+            backend = Backend.STRING_TABLE;
+            why = "wider than the 128-bit register; the String table records every byte step";
+        } else if (width > 129) {
+            backend = Backend.BIGINTEGER_TABLE;
+            why = "wider than the 128-bit register; the BigInteger table is linear in the message";
+        } else if (width > 65) {
+            backend = Backend.WIDE_128;
+            why = "wider than a long register";
+        } else if (trace) {
+            backend = Backend.SARWATE;
+            why = "the fastest engine that records every step";
+        } else if (threads > 1 && bytes >= 2L * CrcParallel.DEFAULT_CHUNK_BYTES) {
+            backend = Backend.PARALLEL;
+            why = String.format("%,d chunks of %d KiB over %d threads", (bytes + CrcParallel.DEFAULT_CHUNK_BYTES - 1) / CrcParallel.DEFAULT_CHUNK_BYTES,
+                    CrcParallel.DEFAULT_CHUNK_BYTES >> 10, threads);
+        } else if (bytes < SLICING_MIN_BYTES) {
+            backend = Backend.SARWATE;
+            why = "shorter than one 8-byte slice";
+        } else {
+            backend = Backend.SLICING_8;
+            why = "fastest measured from one 8-byte slice up" + (threads > 1 ? "; one chunk is too little to split" : "");
+        }
+        if (tail != 0 && bytes > 0 && backend != Backend.STRING_BITWISE && backend != Backend.BIGINTEGER_BITWISE) {
+            why += "; the last " + tail + " bits " + (backend == Backend.STRING_TABLE || backend == Backend.BIGINTEGER_TABLE || backend == Backend.WIDE_128 ? "run bitwise" : "take one tail-table lookup");
+        }
+        return new Choice(create(backend, polyBits, threads), backend, shape + ": " + why);
+    }
+
+    /**
+     * @return A new engine of the backend, which must support the polynomial's width and must not be AUTO.
+     */
+    public static CrcEngine create(Backend backend, String polyBits, int threads) {
+        return switch (backend) {
+            case AUTO -> throw new IllegalArgumentException("AUTO is resolved by select()");
+            case STRING_BITWISE -> new CrcStringEngine(polyBits, false);
+            case STRING_TABLE -> new CrcStringEngine(polyBits, true);
+            case BIGINTEGER_BITWISE -> CrcBigIntegerEngine.of(polyBits);
+            case BIGINTEGER_TABLE -> CrcBigIntegerEngine.of(polyBits, true);
+            case SARWATE -> CrcLongEngine.of(polyBits);
+            case SLICING_8 -> CrcSlicingEngine.of(polyBits, 8);
+            case SLICING_16 -> CrcSlicingEngine.of(polyBits, 16);
+            case FOLDING -> CrcFoldingEngine.of(polyBits);
+            case PARALLEL -> CrcParallel.of(polyBits, 8, CrcParallel.DEFAULT_CHUNK_BYTES, threads);
+            case WIDE_128 -> Crc128Engine.of(polyBits);
+        };
+    }
+}
@@ -0,0 +1,256 @@
+package Java.CNDC;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.function.LongConsumer;
+
+/**
+ * MSB-first CRC engine that folds 128 input bits per step with carry-less multiplication, in the style of the
+ * PCLMULQDQ CRC algorithm, for polynomial degrees 1 to 64. No lookup tables are used.
+ * <p>
+ * The work is done modulo P' = P * x^(64-degree), a degree-64 polynomial, so every CRC width uses the same 64-bit
+ * lanes. A 128-bit accumulator hi:lo is kept congruent to the message; the next two words are folded in as
+ * hi * (x^192 mod P') + lo * (x^128 mod P') + w1:w2. At the end the accumulator times x^64 is reduced with a Barrett
+ * step (mu = floor(x^128 / P')), and the 64-bit result shifted right by 64-degree is the plain remainder.
+ * <p>
+ * JDK 17 has no carry-less multiply intrinsic and the Vector API has no such operation, so the 64x64 product is
+ * computed in pure Java from integer multiplications of bit-masked operands (four-bit holes stop carries from
+ * spilling into the bits that are kept). Leftover bytes and bits go through {@link CrcLongEngine}.
+ */
+public final class CrcFoldingEngine implements CrcEngine {
+    private static final VarHandle LONG_BE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    private static final long M0 = 0x1111111111111111L;
+    private static final long M1 = 0x2222222222222222L;
+    private static final long M2 = 0x4444444444444444L;
+    private static final long M3 = 0x8888888888888888L;
+
+    private final int shift;
+    private final long polyLow64;
+    private final long k128;
+    private final long k192;
+    private final long mu;
+    private final long k128r;
+    private final long k192r;
+    private final long mur;
+    private final CrcLongEngine single;
+
+    /**
+     * @param polyLow The polynomial without its leading x^degree term, right-aligned.
+     * @param degree Degree of the polynomial (width - 1), between 1 and 64.
+     */
+    public CrcFoldingEngine(long polyLow, int degree) {
+        this.single = new CrcLongEngine(polyLow, degree);
+        this.shift = 64 - degree;
+        this.polyLow64 = (polyLow & CrcLongEngine.mask(degree)) << shift;
+        CrcCombine wide = new CrcCombine(polyLow64, 64);
+        this.k128 = wide.xPow(128);
+        this.k192 = wide.xPow(192);
+        this.mu = barrettConstant(polyLow64);
+        this.k128r = Long.reverse(k128);
+        this.k192r = Long.reverse(k192);
+        this.mur = Long.reverse(mu);
+    }
+
+    public static CrcFoldingEngine of(BigInteger poly, int width) {
+        return new CrcFoldingEngine(poly.longValue(), width - 1);
+    }
+
+    public static CrcFoldingEngine of(String polyBits) {
+        return of(new BigInteger(polyBits, 2), polyBits.length());
+    }
+
+    @Override
+    public String name() {
+        return "carry-less folding";
+    }
+
+    @Override
+    public int degree() {
+        return single.degree();
+    }
+
+    /**
+     * @return The low 64 bits of floor(x^128 / P'), where P' = x^64 + polyLow64; the x^64 term is implied.
+     */
+    private static long barrettConstant(long polyLow64) {
+        BigInteger p = BigInteger.ONE.shiftLeft(64).or(new BigInteger(Long.toUnsignedString(polyLow64)));
+        BigInteger r = BigInteger.ONE.shiftLeft(128);
+        long q = 0;
+        for (int i = 128; i >= 64; i--) {
+            if (r.testBit(i)) {
+                r = r.xor(p.shiftLeft(i - 64));
+                if (i < 128) q |= 1L << (i - 64);
+            }
+        }
+        return q;
+    }
+
+    /**
+     * Low 64 bits of the carry-less product x * y. Each masked operand has its bits four apart, so an integer
+     * multiplication sums at most 16 terms per kept bit and the parity lands where it belongs.
+     */
+    static long clmulLo(long x, long y) {
+        long x0 = x & M0, x1 = x & M1, x2 = x & M2, x3 = x & M3;
+        long y0 = y & M0, y1 = y & M1, y2 = y & M2, y3 = y & M3;
+        long z0 = (x0 * y0) ^ (x1 * y3) ^ (x2 * y2) ^ (x3 * y1);
+        long z1 = (x0 * y1) ^ (x1 * y0) ^ (x2 * y3) ^ (x3 * y2);
+        long z2 = (x0 * y2) ^ (x1 * y1) ^ (x2 * y0) ^ (x3 * y3);
+        long z3 = (x0 * y3) ^ (x1 * y2) ^ (x2 * y1) ^ (x3 * y0);
+        return (z0 & M0) | (z1 & M1) | (z2 & M2) | (z3 & M3);
+    }
+
+    /**
+     * High 64 bits of the carry-less product, given both operands bit-reversed: the low half of the reversed
+     * product is the reversed high half, one bit off since the product has 127 bits.
+     */
+    static long clmulHiReversed(long xr, long yr) {
+        return Long.reverse(clmulLo(xr, yr)) >>> 1;
+    }
+
+    /**
+     * Continues a CRC over whole bytes.
+     * @param crc The right-aligned register from a previous call, 0 to start.
+     */
+    public long update(long crc, byte[] bytes, int off, int len) {
+        int words = len >>> 3;
+        if (words == 0) return single.update(crc, bytes, off, len);
+        long hi = 0;
+        long lo = (long) LONG_BE.get(bytes, off) ^ (crc << shift);
+        int i = 1;
+        int p = off + 8;
+        for (; words - i >= 2; i += 2, p += 16) {
+            long h = foldHi(hi, lo, (long) LONG_BE.get(bytes, p));
+            lo = foldLo(hi, lo, (long) LONG_BE.get(bytes, p + 8));
+            hi = h;
+        }
+        if (i < words) {
+            long h = clmulHiReversed(Long.reverse(hi), k128r) ^ lo;
+            lo = clmulLo(hi, k128) ^ (long) LONG_BE.get(bytes, p);
+            hi = h;
+            p += 8;
+        }
+        return single.update(reduce(hi, lo), bytes, p, off + len - p);
+    }
+
+    /**
+     * Continues a CRC over the remaining bytes of the buffer, advancing its position.
+     */
+    public long update(long crc, ByteBuffer buf) {
+        if (buf.remaining() < 8) return single.update(crc, buf);
+        ByteOrder order = buf.order();
+        buf.order(ByteOrder.BIG_ENDIAN);
+        long hi = 0;
+        long lo = buf.getLong() ^ (crc << shift);
+        while (buf.remaining() >= 16) {
+            long h = foldHi(hi, lo, buf.getLong());
+            lo = foldLo(hi, lo, buf.getLong());
+            hi = h;
+        }
+        if (buf.remaining() >= 8) {
+            long h = clmulHiReversed(Long.reverse(hi), k128r) ^ lo;
+            lo = clmulLo(hi, k128) ^ buf.getLong();
+            hi = h;
+        }
+        buf.order(order);
+        return single.update(reduce(hi, lo), buf);
+    }
+
+    /**
+     * Continues a CRC over a packed message: its big-endian words are folded directly, the rest goes through the
+     * single-table engine.
+     */
+    public long update(long crc, BitMessage message) {
+        return updateTail(update(crc, message, 0, message.fullBytes()), message);
+    }
+
+    /**
+     * Continues a CRC over the whole bytes fromByte to toByte-1 of a packed message, so long messages can be
+     * processed in chunks. Bytes outside 64-bit word boundaries go through the single-table engine.
+     */
+    public long update(long crc, BitMessage message, int fromByte, int toByte) {
+        int j = fromByte;
+        for (; j < toByte && (j & 7) != 0; j++) {
+            crc = single.update(crc, message.byteAt(j));
+        }
+        int i = j >>> 3;
+        int words = toByte >>> 3;
+        if (i < words) {
+            long hi = 0;
+            long lo = message.wordAt(i++) ^ (crc << shift);
+            for (; words - i >= 2; i += 2) {
+                long h = foldHi(hi, lo, message.wordAt(i));
+                lo = foldLo(hi, lo, message.wordAt(i + 1));
+                hi = h;
+            }
+            if (i < words) {
+                long h = clmulHiReversed(Long.reverse(hi), k128r) ^ lo;
+                lo = clmulLo(hi, k128) ^ message.wordAt(i);
+                hi = h;
+            }
+            crc = reduce(hi, lo);
+        }
+        for (j = Math.max(j, words * 8); j < toByte; j++) {
+            crc = single.update(crc, message.byteAt(j));
+        }
+        return crc;
+    }
+
+    /**
+     * Continues a CRC over the bits after the last whole byte of the message.
+     */
+    public long updateTail(long crc, BitMessage message) {
+        return single.updateTail(crc, message);
+    }
+
+    public long remainder(BitMessage message) {
+        return update(0, message);
+    }
+
+    /**
+     * Runs over the message in chunks of {@link #PROGRESS_CHUNK_BYTES}, reporting progress between chunks.
+     */
+    @Override
+    public BitMessage compute(BitMessage message, CrcTrace trace, LongConsumer progress) {
+        long crc = 0;
+        int bytes = message.fullBytes();
+        for (int from = 0; from < bytes; from += PROGRESS_CHUNK_BYTES) {
+            int to = Math.min(bytes, from + PROGRESS_CHUNK_BYTES);
+            crc = update(crc, message, from, to);
+            if (progress != null) progress.accept(8L * to);
+        }
+        crc = updateTail(crc, message);
+        if (progress != null) progress.accept(message.length());
+        return BitMessage.of(crc, degree());
+    }
+
+    public String toBinary(long crc) {
+        return single.toBinary(crc);
+    }
+
+    /**
+     * High word of hi * (x^192 mod P') + lo * (x^128 mod P') + w1:w2.
+     */
+    private long foldHi(long hi, long lo, long w1) {
+        return clmulHiReversed(Long.reverse(hi), k192r) ^ clmulHiReversed(Long.reverse(lo), k128r) ^ w1;
+    }
+
+    /**
+     * Low word of hi * (x^192 mod P') + lo * (x^128 mod P') + w1:w2.
+     */
+    private long foldLo(long hi, long lo, long w2) {
+        return clmulLo(hi, k192) ^ clmulLo(lo, k128) ^ w2;
+    }
+
+    /**
+     * Reduces (hi:lo) * x^64 modulo P' and returns the right-aligned CRC register.
+     */
+    private long reduce(long hi, long lo) {
+        long gh = clmulHiReversed(Long.reverse(hi), k128r) ^ lo;
+        long gl = clmulLo(hi, k128);
+        long q = clmulHiReversed(Long.reverse(gh), mur) ^ gh;
+        return (gl ^ clmulLo(q, polyLow64)) >>> shift;
+    }
+}
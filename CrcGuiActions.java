@@ -0,0 +1,523 @@
+package Java.CNDC;
+
+import javax.swing.*;
+import java.awt.*;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The actions both simulator frames share: held input, incremental re-verification of simulated errors, burst
+ * correction, and the analysis dialogs (HD profile, Monte Carlo, polynomial info and search). Each frame keeps its
+ * own divisor field and rules, handed in as the polynomial supplier and validator, and its own button panel, which
+ * the busy callback disables while a job runs.
+ */
+final class CrcGuiActions {
+    static final String OUTPUT_PLACEHOLDER = "Output goes here...";
+    /** Longest message written to the input area or log as '0'/'1'; longer ones are held in memory and previewed. */
+    static final int DISPLAY_MAX_BITS = 1 << 16;
+    /** Largest degree whose period is computed; above it factoring 2^d - 1 can take too long. */
+    private static final int PERIOD_MAX_DEGREE = 128;
+
+    final JProgressBar progressBar = new JProgressBar(0, 100);
+    final CrcPayloadView payloadView = new CrcPayloadView();
+    final CrcHdChart hdChart = new CrcHdChart();
+
+    private final JFrame frame;
+    private final JTextArea inputArea;
+    private final JComboBox<CrcInputFormat> inputFormatCombo;
+    private final JTextArea outputArea;
+    private final Supplier<String> polynomial;
+    private final Function<String, String> validator;
+    private final Consumer<Boolean> busy;
+    private CrcWorker worker;
+    private BitMessage heldInput; //loaded file or large codeword, kept as bits while the input area shows heldLabel()
+    private String heldName;
+    private BitMessage syndromeBase; //input whose syndrome follows from syndromeFlips on a valid codeword, null if unknown
+    private String syndromePoly;
+    private final List<Long> syndromeFlips = new ArrayList<>();
+    private CrcCorrector corrector; //syndrome index of the last correcting decode, reused while polynomial, length and burst match
+    private String correctorPoly;
+
+    /**
+     * @param polynomial The divisor as typed, without whitespace.
+     * @param validator The frame's check of a divisor: an error message, or "" if it is usable.
+     * @param busy Called with true when a job starts and false when it has finished.
+     */
+    CrcGuiActions(JFrame frame, JTextArea inputArea, JComboBox<CrcInputFormat> inputFormatCombo, JTextArea outputArea,
+                  Supplier<String> polynomial, Function<String, String> validator, Consumer<Boolean> busy) {
+        this.frame = frame;
+        this.inputArea = inputArea;
+        this.inputFormatCombo = inputFormatCombo;
+        this.outputArea = outputArea;
+        this.polynomial = polynomial;
+        this.validator = validator;
+        this.busy = busy;
+        progressBar.setStringPainted(true);
+        progressBar.setVisible(false);
+    }
+
+    /**
+     * Runs a job on a {@link CrcWorker} with the frame busy until it has finished.
+     * @param onFinished Runs on the event dispatch thread after the frame is released, or null.
+     */
+    void run(long totalBits, Runnable onFinished, CrcWorker.Job job) {
+        busy.accept(true);
+        worker = new CrcWorker(totalBits, outputArea, progressBar, () -> {
+            busy.accept(false);
+            if (onFinished != null) onFinished.run();
+        }, job);
+        worker.start();
+    }
+
+    /**
+     * @return True if a job was asked to stop; it finishes at its next progress report.
+     */
+    boolean cancel() {
+        if (worker == null) return false;
+        worker.requestCancel();
+        return true;
+    }
+
+    /**
+     * Forgets the held input and the verified codeword, and empties the payload view.
+     */
+    void clear() {
+        syndromeBase = null;
+        heldInput = null;
+        payloadView.show(null, null, 0, null);
+    }
+
+    /**
+     * @return The held message if the input area still shows its label, otherwise the text read in the chosen format.
+     */
+    BitMessage readInput(String text) {
+        if (heldInput != null && text.equals(heldLabel())) return heldInput;
+        return ((CrcInputFormat) inputFormatCombo.getSelectedItem()).decode(text);
+    }
+
+    /**
+     * @return The name of the held input if data is it, otherwise null.
+     */
+    String sourceOf(BitMessage data) {
+        return data == heldInput ? heldName : null;
+    }
+
+    /**
+     * Puts a result back into the input area: as '0'/'1' text if it is short and typed, otherwise held in memory.
+     * @param name Name of the held input it came from, or null if it came from the text.
+     */
+    void showInput(BitMessage message, String name, String poly) {
+        if (name != null || message.length() > DISPLAY_MAX_BITS) {
+            hold(message, name != null ? name : "Codeword");
+        } else {
+            inputArea.setText(message.toBinaryString());
+            inputFormatCombo.setSelectedItem(CrcInputFormat.BINARY);
+        }
+        markVerified(message, poly);
+    }
+
+    private void hold(BitMessage message, String name) {
+        heldInput = message;
+        heldName = name;
+        inputArea.setForeground(Color.BLACK);
+        inputArea.setText(heldLabel());
+    }
+
+    private String heldLabel() {
+        return String.format("[%s: %,d bits held in memory. Type over this text to enter new input.]", heldName, heldInput.length());
+    }
+
+    /**
+     * Remembers a codeword with a zero syndrome, so later simulated flips can be re-verified incrementally.
+     */
+    void markVerified(BitMessage codeword, String poly) {
+        syndromeBase = codeword;
+        syndromePoly = poly;
+        syndromeFlips.clear();
+    }
+
+    /**
+     * Locates a single-bit error or short burst from the syndrome of a failed decode.
+     * @return The corrected codeword, or null if it cannot be corrected; the outcome is logged either way.
+     */
+    BitMessage correct(BitMessage codeword, String poly, int maxBurst, StringBuilder log) {
+        if (!CrcSyndrome.fits(poly.length()) || codeword.length() < poly.length()) {
+            log.append("Correction needs CRC-1 to CRC-64 and a codeword longer than the check bits.\n");
+            return null;
+        }
+        CrcCorrector index = corrector;
+        if (index == null || !poly.equals(correctorPoly) || index.length() != codeword.length() || index.maxBurst() != maxBurst) {
+            try {
+                index = CrcCorrector.of(poly, codeword.length(), maxBurst);
+            } catch (IllegalArgumentException ex) {
+                log.append("Correction skipped: ").append(ex.getMessage()).append(".\n");
+                return null;
+            }
+            corrector = index;
+            correctorPoly = poly;
+        }
+        CrcCorrector.Correction fix = index.locate(codeword);
+        if (fix == null) {
+            log.append(String.format("Uncorrectable: the syndrome matches no single burst of up to %d bits.\n", maxBurst));
+            return null;
+        }
+        BitMessage corrected = codeword.withFlipped(fix.positions());
+        log.append("🔧 Corrected ").append(fix.burst() == 1 ? "bit " + fix.start() : fix.burst() + "-bit burst at " + fix.positions()).append("\n");
+        log.append("Corrected codeword: ").append(corrected.preview(DISPLAY_MAX_BITS)).append("\n");
+        return corrected;
+    }
+
+    /**
+     * Reads a file's raw bytes as the input, without expanding them into the input area.
+     */
+    void loadFile() {
+        JFileChooser chooser = new JFileChooser();
+        if (chooser.showOpenDialog(frame) != JFileChooser.APPROVE_OPTION) return;
+        Path path = chooser.getSelectedFile().toPath();
+        BitMessage bytes;
+        long start = System.nanoTime();
+        try {
+            bytes = CrcInputFormat.readFile(path);
+        } catch (IOException | IllegalArgumentException ex) {
+            showError("Could not load " + path.getFileName() + ": " + ex.getMessage());
+            return;
+        }
+        hold(bytes, path.getFileName().toString());
+        clearPlaceholder();
+        outputArea.append(String.format("Loaded %s: %,d bytes in %.3f ms\n", path.getFileName(), bytes.fullBytes(), (System.nanoTime() - start) / 1e6));
+    }
+
+    /**
+     * Flips random bits of the input, typed or held, and re-verifies from the flipped positions when the input was a
+     * known codeword.
+     */
+    void simulateError() {
+        boolean held = heldInput != null && inputArea.getText().trim().equals(heldLabel());
+        String data = held ? null : removeWhitespace(inputArea.getText());
+        if (!held && (data.isEmpty() || !data.matches("[01]+"))) {
+            showError("Input must be binary.");
+            return;
+        }
+        int length = held ? heldInput.length() : data.length();
+        String input = JOptionPane.showInputDialog(frame, "Bits to flip:", "1");
+        if (input == null) return;
+        int num;
+        try {
+            num = Integer.parseInt(input);
+        } catch (NumberFormatException ex) {
+            showError("Invalid number.");
+            return;
+        }
+        if (num <= 0 || num > length) {
+            showError("Number of bits must be between 1 and " + length);
+            return;
+        }
+        Random rand = new Random();
+        Set<Integer> flipped = new HashSet<>();
+        while (flipped.size() < num) flipped.add(rand.nextInt(length));
+        String poly = polynomial.get();
+        BitMessage before = held ? heldInput : BitMessage.parse(data);
+        BitMessage after = before.withFlipped(flipped);
+        clearPlaceholder();
+        outputArea.append("Stimulate Error\n----------\n");
+        outputArea.append("Original data: " + before.preview(DISPLAY_MAX_BITS) + "\n");
+        outputArea.append("Corrupted data: " + after.preview(DISPLAY_MAX_BITS) + "\n");
+        outputArea.append("Flipped " + num + " bit(s) at: " + flipped + "\n\n");
+        if (held) {
+            hold(after, heldName);
+        } else {
+            inputArea.setText(after.toBinaryString());
+        }
+        reverify(before, after, flipped, poly);
+        payloadView.show("Simulated errors", after, poly.length() - 1, before);
+        JOptionPane.showMessageDialog(frame, "Flipped " + num + " bit(s) at: " + flipped);
+    }
+
+    /**
+     * Re-verifies after simulateError from the flipped positions alone, if the input before the flips is a known
+     * codeword (last encode or passing check) for the current polynomial; otherwise a full check is needed.
+     */
+    private void reverify(BitMessage before, BitMessage after, Collection<Integer> flipped, String poly) {
+        if (!before.equals(syndromeBase) || !poly.equals(syndromePoly) || !CrcSyndrome.fits(poly.length())) {
+            syndromeBase = null;
+            return;
+        }
+        for (int pos : flipped) syndromeFlips.add((long) pos);
+        long start = System.nanoTime();
+        CrcSyndrome.Update update = CrcSyndrome.of(poly).apply(0, after.length(), syndromeFlips);
+        long elapsed = System.nanoTime() - start;
+        syndromeBase = after;
+        int degree = poly.length() - 1;
+        outputArea.append(String.format("Re-verify from %d flip(s) since the last check in %.3f ms, without a decode pass\n", syndromeFlips.size(), elapsed / 1e6));
+        outputArea.append("Syndrome: " + String.format("%" + degree + "s", Long.toBinaryString(update.syndrome())).replace(' ', '0') + "\n");
+        for (List<Long> group : update.cancelled()) {
+            outputArea.append("Cancelled out (equal syndrome contributions): " + group + "\n");
+        }
+        if (update.syndrome() != 0) {
+            outputArea.append("❌ Error detected.\n\n");
+        } else if (update.netFlips().isEmpty()) {
+            outputArea.append("✅ No error (every flip was undone).\n\n");
+        } else {
+            outputArea.append("⚠️ Undetected error: flips at " + update.netFlips() + " form a multiple of the polynomial.\n\n");
+        }
+    }
+
+    /**
+     * Charts the Hamming distance of the divisor against data length, next to every distinct predefined
+     * polynomial, so the right CRC can be picked for a frame size.
+     */
+    void analyzeHd() {
+        String poly = validPolynomial();
+        if (poly == null) return;
+        if (!CrcHdProfile.fits(poly.length())) {
+            showError("HD profile supports CRC-1 to CRC-64.");
+            return;
+        }
+        int limit = CrcHdProfile.MAX_CODEWORD_BITS - 64;
+        String input = JOptionPane.showInputDialog(frame, "Longest data word in bits (up to " + limit + "):", "1024");
+        if (input == null) return;
+        int maxBits;
+        try {
+            maxBits = Integer.parseInt(input.trim());
+        } catch (NumberFormatException ex) {
+            showError("Invalid number.");
+            return;
+        }
+        if (maxBits < 1 || maxBits > limit) {
+            showError("Data length must be between 1 and " + limit);
+            return;
+        }
+        int step = Math.max(1, (maxBits + 127) / 128);
+        Map<String, String> polys = new LinkedHashMap<>();
+        polys.put(poly, "Divisor");
+        for (predefinedCRC crc : predefinedCRC.values()) {
+            if (crc != predefinedCRC.CUSTOM) polys.merge(crc.getPoly(), crc.name(), (a, b) -> a + "/" + b);
+        }
+        long totalBits = 0;
+        for (String p : polys.keySet()) totalBits += maxBits + p.length() - 1;
+        int threads = Runtime.getRuntime().availableProcessors();
+        clearPlaceholder();
+        run(totalBits, null, w -> {
+            StringBuilder log = w.log();
+            List<CrcHdChart.Series> series = new ArrayList<>();
+            long done = 0;
+            for (Map.Entry<String, String> entry : polys.entrySet()) {
+                long offset = done;
+                List<CrcHdProfile.Point> points = CrcHdProfile.of(entry.getKey()).analyze(maxBits, step, threads, l -> w.advance(offset + l));
+                series.add(new CrcHdChart.Series(entry.getValue(), points));
+                log.append(entry.getValue()).append(": ").append(CrcHdChart.ranges(points)).append("\n");
+                done += maxBits + entry.getKey().length() - 1;
+            }
+            List<CrcHdProfile.Point> own = series.get(0).points();
+            CrcHdProfile.Point last = own.get(own.size() - 1);
+            log.append(String.format("Divisor at %d data bits: %d undetectable 2-bit, %d 3-bit and %d 4-bit errors\n",
+                    last.dataBits(), last.weight2(), last.weight3(), last.weight4()));
+            log.append(String.format("HD profile done in %.3f ms\n\n", w.elapsedNanos() / 1e6));
+            return () -> {
+                hdChart.show(series);
+                if (hdChart.getParent() instanceof JTabbedPane tabs) tabs.setSelectedComponent(hdChart);
+            };
+        });
+    }
+
+    /**
+     * Logs the algebra of the divisor: its factorization, whether it is irreducible and primitive, and its period,
+     * the codeword length up to which every 2-bit error is detected.
+     */
+    void polynomialInfo() {
+        String poly = validPolynomial();
+        if (poly == null) return;
+        clearPlaceholder();
+        run(1, null, w -> {
+            StringBuilder log = w.log();
+            Gf2Poly g = Gf2Poly.of(poly);
+            List<Gf2Poly.Factor> factors = g.factor();
+            log.append("Polynomial: ").append(g).append("\n");
+            log.append("Factors: ");
+            for (int i = 0; i < factors.size(); i++) log.append(i == 0 ? "" : " * ").append(factors.get(i));
+            log.append("\n");
+            boolean irreducible = factors.size() == 1 && factors.get(0).multiplicity() == 1;
+            log.append("Irreducible: ").append(irreducible ? "yes" : "no");
+            log.append(" | Divisible by (x + 1): ").append(g.weight() % 2 == 0 ? "yes, every odd-weight error is detected" : "no").append("\n");
+            if (g.degree() > PERIOD_MAX_DEGREE) {
+                log.append("Period not computed above degree ").append(PERIOD_MAX_DEGREE).append("\n");
+            } else {
+                BigInteger period = g.order();
+                if (period == null) {
+                    log.append("Period: none, the constant term is 0\n");
+                } else {
+                    boolean primitive = irreducible && period.equals(BigInteger.ONE.shiftLeft(g.degree()).subtract(BigInteger.ONE));
+                    log.append("Primitive: ").append(primitive ? "yes" : "no").append("\n");
+                    log.append(String.format("Period: %s, 2-bit errors are detected in codewords of up to %s bits\n", period, period));
+                }
+            }
+            w.advance(1);
+            log.append(String.format("Polynomial info done in %.3f ms\n\n", w.elapsedNanos() / 1e6));
+            return null;
+        });
+    }
+
+    /**
+     * Estimates the undetected-error rate of the divisor with many random trials of a channel error model,
+     * instead of the single trial of Simulate Error.
+     */
+    void monteCarlo() {
+        String poly = validPolynomial();
+        if (poly == null) return;
+        if (!CrcSyndrome.fits(poly.length())) {
+            showError("Monte Carlo supports CRC-1 to CRC-64.");
+            return;
+        }
+        String input = removeWhitespace(inputArea.getText());
+        JComboBox<String> modelCombo = new JComboBox<>(new String[]{"Random k bits", "Burst of b bits", "Binary symmetric channel (p)"});
+        JTextField parameterField = new JTextField("3");
+        JTextField lengthField = new JTextField(String.valueOf(input.matches("[01]+") ? input.length() : 1024));
+        JTextField trialsField = new JTextField("1000000");
+        JTextField seedField = new JTextField(String.valueOf(System.nanoTime() & 0xFFFFFF));
+        JPanel form = new JPanel(new GridLayout(0, 2, 4, 4));
+        form.add(new JLabel("Error model:"));
+        form.add(modelCombo);
+        form.add(new JLabel("k, b or p:"));
+        form.add(parameterField);
+        form.add(new JLabel("Codeword bits:"));
+        form.add(lengthField);
+        form.add(new JLabel("Trials:"));
+        form.add(trialsField);
+        form.add(new JLabel("Seed:"));
+        form.add(seedField);
+        if (JOptionPane.showConfirmDialog(frame, form, "Monte Carlo", JOptionPane.OK_CANCEL_OPTION) != JOptionPane.OK_OPTION) return;
+        CrcMonteCarlo.Model model = CrcMonteCarlo.Model.values()[modelCombo.getSelectedIndex()];
+        double parameter;
+        long length, trials, seed;
+        try {
+            parameter = Double.parseDouble(parameterField.getText().trim());
+            length = Long.parseLong(lengthField.getText().trim());
+            trials = Long.parseLong(trialsField.getText().trim());
+            seed = Long.parseLong(seedField.getText().trim());
+        } catch (NumberFormatException ex) {
+            showError("Invalid number.");
+            return;
+        }
+        if (length <= poly.length() - 1) {
+            showError("Codeword must be longer than the " + (poly.length() - 1) + " check bits.");
+            return;
+        }
+        String description = switch (model) {
+            case RANDOM_BITS -> String.format("random %.0f-bit errors", parameter);
+            case BURST -> String.format("%.0f-bit bursts", parameter);
+            case BSC -> String.format("binary symmetric channel, p = %g", parameter);
+        };
+        int threads = Runtime.getRuntime().availableProcessors();
+        clearPlaceholder();
+        run(trials, null, w -> {
+            CrcMonteCarlo.Result r = CrcMonteCarlo.of(poly, length).run(model, parameter, trials, seed, threads, w::advance);
+            StringBuilder log = w.log();
+            log.append(String.format("Monte Carlo: %,d trials of %s on a %,d-bit codeword, seed %d\n", trials, description, length, seed));
+            log.append(String.format("Erroneous frames: %,d | Undetected: %,d\n", r.erroneous(), r.undetected()));
+            log.append(String.format("Undetected-error rate: %.3e per frame (95%% CI %.3e to %.3e), %.3e per erroneous frame\n",
+                    r.rate(), r.low(), r.high(), r.missRate()));
+            log.append(String.format("Reference 2^-%d = %.3e\n", poly.length() - 1, Math.pow(2, -(poly.length() - 1))));
+            log.append(String.format("Monte Carlo done in %.3f ms\n\n", w.elapsedNanos() / 1e6));
+            return null;
+        });
+    }
+
+    /**
+     * Ranks every polynomial of a degree (or a random sample) by Hamming distance at a data length and makes the best
+     * one the custom divisor. With a checkpoint file, a cancelled search continues where it stopped.
+     * @param useBest Makes the best polynomial, as a bit string, the frame's divisor.
+     */
+    void searchPolynomials(Consumer<String> useBest) {
+        String current = polynomial.get();
+        JTextField degreeField = new JTextField(String.valueOf(current.length() > 3 && current.length() <= 65 ? current.length() - 1 : 16));
+        JTextField lengthField = new JTextField("1024");
+        JTextField samplesField = new JTextField("0");
+        JTextField seedField = new JTextField("1");
+        JTextField keepField = new JTextField("10");
+        JTextField checkpointField = new JTextField(20);
+        JPanel form = new JPanel(new GridLayout(0, 2, 4, 4));
+        form.add(new JLabel("CRC degree (3-64):"));
+        form.add(degreeField);
+        form.add(new JLabel("Data bits:"));
+        form.add(lengthField);
+        form.add(new JLabel("Samples (0 = all):"));
+        form.add(samplesField);
+        form.add(new JLabel("Seed:"));
+        form.add(seedField);
+        form.add(new JLabel("Keep best:"));
+        form.add(keepField);
+        form.add(new JLabel("Checkpoint file (optional):"));
+        form.add(checkpointField);
+        if (JOptionPane.showConfirmDialog(frame, form, "Polynomial Search", JOptionPane.OK_CANCEL_OPTION) != JOptionPane.OK_OPTION) return;
+        CrcPolySearch search;
+        Path checkpoint = checkpointField.getText().isBlank() ? null : Paths.get(checkpointField.getText().trim());
+        boolean resumed;
+        try {
+            search = new CrcPolySearch(Integer.parseInt(degreeField.getText().trim()), Integer.parseInt(lengthField.getText().trim()),
+                    Long.parseLong(samplesField.getText().trim()), Long.parseLong(seedField.getText().trim()), Integer.parseInt(keepField.getText().trim()));
+            resumed = checkpoint != null && search.restore(checkpoint);
+        } catch (NumberFormatException ex) {
+            showError("Invalid number.");
+            return;
+        } catch (IllegalArgumentException | IOException ex) {
+            showError(ex.getMessage());
+            return;
+        }
+        int threads = Runtime.getRuntime().availableProcessors();
+        outputArea.setText("");
+        run(search.total(), null, w -> {
+            StringBuilder log = w.log();
+            long from = search.next();
+            search.run(threads, checkpoint, w::advance);
+            List<CrcPolySearch.Candidate> top = search.best();
+            log.append(String.format("Polynomial search: %,d candidates on %d threads%s, reciprocals skipped\n", search.total() - from, threads,
+                    resumed ? String.format(", resumed at %,d from %s", from, checkpoint.getFileName()) : ""));
+            for (int i = 0; i < top.size(); i++) {
+                log.append(String.format("%2d. %s  %s\n", i + 1, top.get(i).bits(), top.get(i)));
+            }
+            if (search.saturated()) {
+                log.append(String.format("Warning: all %d kept polynomials reach HD %d+, so they are listed by value; rank at more data bits to separate them\n",
+                        top.size(), CrcPolySearch.MAX_HD));
+            }
+            log.append(String.format("Search done in %.3f s\n\n", w.elapsedNanos() / 1e9));
+            if (top.isEmpty()) return null;
+            String bits = top.get(0).bits();
+            return () -> {
+                useBest.accept(bits);
+                outputArea.append("Divisor set to the best polynomial.\n\n");
+            };
+        });
+    }
+
+    /**
+     * @return The divisor, or null after showing why the frame rejects it.
+     */
+    private String validPolynomial() {
+        String poly = polynomial.get();
+        String error = validator.apply(poly);
+        if (!error.isEmpty()) {
+            showError(error);
+            return null;
+        }
+        return poly;
+    }
+
+    private void clearPlaceholder() {
+        if (Objects.equals(outputArea.getText(), OUTPUT_PLACEHOLDER)) outputArea.setText("");
+    }
+
+    private void showError(String msg) {
+        JOptionPane.showMessageDialog(frame, msg, "Error", JOptionPane.ERROR_MESSAGE);
+    }
+
+    private static String removeWhitespace(String s) {
+        return s.replaceAll("\\s+", "");
+    }
+}
@@ -5,32 +5,32 @@ import javax.swing.border.LineBorder;
 import java.awt.*;
 import java.awt.event.FocusAdapter;
 import java.awt.event.FocusEvent;
-import java.math.BigInteger;
-import java.util.*;
 
 public class CrcGuiBigInt extends JFrame {
     private final JTextArea inputArea = new JTextArea(8, 60);
     private final JTextField divisorField = new JTextField(20);
     private final JTextField customWidthField = new JTextField(5);
     private final JTextArea outputArea = new JTextArea(10, 60);
-    private final JButton inputModeBtn = new JButton("Input mode: Binary");
-    private boolean asciiMode = false;
+    private final JComboBox<CrcInputFormat> inputFormatCombo = new JComboBox<>(CrcInputFormat.values());
+    private final CrcGuiActions actions = new CrcGuiActions(this, inputArea, inputFormatCombo, outputArea,
+            () -> removeWhitespace(divisorField.getText()), p -> validatePoly(p, p.length()), this::setBusy);
     private final String INPUT_PLACEHOLDER = "Input goes here...";
-    private final String OUTPUT_PLACEHOLDER = "Output goes here...";
     private final JButton simulateErrorBtn = new JButton("Simulate Error");
     private final JComboBox<String> crcTypeCombo = new JComboBox<>(new String[]{"CRC-8", "CRC-16", "CRC-32", "CRC-64", "Custom CRC"});
-    private final JRadioButton lookupOn = new JRadioButton("Yes");
-    private final JRadioButton lookupOff = new JRadioButton("No", true);
+    private final JComboBox<CrcEngineSelector.Backend> engineCombo = new JComboBox<>(CrcEngineSelector.Backend.values());
+    private final JSpinner threadsSpinner = new JSpinner(new SpinnerNumberModel(1, 1, 256, 1));
+    private final JPanel buttons = new JPanel(new FlowLayout(FlowLayout.LEFT));
+    private final JButton cancelBtn = new JButton("Cancel");
+    private final JCheckBox showCalcSteps = new JCheckBox("Show Calculation Steps");
+    private final JSpinner traceCapSpinner = new JSpinner(new SpinnerNumberModel(100_000, 1, 10_000_000, 10_000));
+    private final CrcTraceView traceView = new CrcTraceView();
+    private final JSpinner correctSpinner = new JSpinner(new SpinnerNumberModel(0, 0, CrcCorrector.MAX_BURST, 1));
+    private final JTabbedPane outputTabs = new JTabbedPane();
+    private CrcTrace trace; //steps of the current run, null when Show Calculation Steps is off
     private JPanel notDivByXLight;
     private JPanel divByXPlus1Light;
-    private String lastCodeword = "";
     private JLabel customWidthLabel;
 
-    // Cache for lookup table
-    private BigInteger cachedPoly = null;
-    private int cachedWidth = -1;
-    private BigInteger[] cachedTable = null;
-
     public CrcGuiBigInt() {
         super("CRC Simulator");
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
@@ -40,7 +40,7 @@ public class CrcGuiBigInt extends JFrame {
         inScroll.setBorder(BorderFactory.createTitledBorder("Input Data"));
 
         outputArea.setEditable(false);
-        JScrollPane outScroll = new JScrollPane(addPlaceholder(outputArea, OUTPUT_PLACEHOLDER));
+        JScrollPane outScroll = new JScrollPane(addPlaceholder(outputArea, CrcGuiActions.OUTPUT_PLACEHOLDER));
         outScroll.setBorder(BorderFactory.createTitledBorder("Output / Log"));
 
         JPanel genRow = new JPanel(new FlowLayout(FlowLayout.LEFT));
@@ -52,18 +52,25 @@ public class CrcGuiBigInt extends JFrame {
         setLight(divByXPlus1Light, Color.LIGHT_GRAY);
         genRow.add(notDivByXLight);
         genRow.add(divByXPlus1Light);
+        genRow.add(new JLabel("Correct bursts up to:"));
+        genRow.add(correctSpinner);
+        correctSpinner.setToolTipText("0 = detect only, 1 = single-bit errors, N = bursts up to N bits, located from the syndrome on decode");
         notDivByXLight.setToolTipText("Checks if the polynomial is not divisible by x (constant term is 1)");
         divByXPlus1Light.setToolTipText("Checks if the polynomial is divisible by x+1 (even number of 1s)");
 
         JPanel crcSelectPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
         crcSelectPanel.add(new JLabel("CRC Type:"));
         crcSelectPanel.add(crcTypeCombo);
-        crcSelectPanel.add(new JLabel("Use Lookup Table:"));
-        ButtonGroup lookupGroup = new ButtonGroup();
-        lookupGroup.add(lookupOn);
-        lookupGroup.add(lookupOff);
-        crcSelectPanel.add(lookupOn);
-        crcSelectPanel.add(lookupOff);
+        crcSelectPanel.add(new JLabel("Engine:"));
+        crcSelectPanel.add(engineCombo);
+        crcSelectPanel.add(new JLabel("Threads:"));
+        crcSelectPanel.add(threadsSpinner);
+        crcSelectPanel.add(showCalcSteps);
+        crcSelectPanel.add(new JLabel("Keep last:"));
+        crcSelectPanel.add(traceCapSpinner);
+        traceCapSpinner.setToolTipText("Maximum number of calculation steps kept; older steps are dropped");
+        engineCombo.setToolTipText("Auto picks the fastest engine for the polynomial width, message length and alignment; the log says which and why");
+        threadsSpinner.setToolTipText("Above 1, messages of 2 MiB and more are split into 1 MiB chunks hashed in parallel (CRC-1 to CRC-64 only)");
 
         customWidthLabel = new JLabel("Using CRC-");
         customWidthField.setText("8");
@@ -88,15 +95,29 @@ public class CrcGuiBigInt extends JFrame {
             }
         });
 
-        JPanel buttons = new JPanel(new FlowLayout(FlowLayout.LEFT));
-        buttons.add(inputModeBtn);
+        buttons.add(new JLabel("Input:"));
+        buttons.add(inputFormatCombo);
+        inputFormatCombo.setToolTipText("How the input text is read; every format but Binary goes straight to bytes");
+        JButton loadBtn = new JButton("Load File...");
+        buttons.add(loadBtn);
         JButton encodeBtn = new JButton("Encode");
         buttons.add(encodeBtn);
         JButton checkBtn = new JButton("Decode");
         buttons.add(checkBtn);
         buttons.add(simulateErrorBtn);
+        JButton hdBtn = new JButton("HD Profile");
+        buttons.add(hdBtn);
+        JButton monteCarloBtn = new JButton("Monte Carlo");
+        buttons.add(monteCarloBtn);
+        JButton infoBtn = new JButton("Polynomial Info");
+        buttons.add(infoBtn);
+        JButton searchBtn = new JButton("Poly Search");
+        buttons.add(searchBtn);
         JButton clearBtn = new JButton("Clear");
         buttons.add(clearBtn);
+        buttons.add(cancelBtn);
+        buttons.add(actions.progressBar);
+        cancelBtn.setVisible(false);
 
         JPanel topPanel = new JPanel(new BorderLayout(6, 6));
         topPanel.add(inScroll, BorderLayout.CENTER);
@@ -106,7 +127,11 @@ public class CrcGuiBigInt extends JFrame {
         topNorth.add(genRow);
         topPanel.add(topNorth, BorderLayout.NORTH);
 
-        JSplitPane splitPane = new JSplitPane(JSplitPane.VERTICAL_SPLIT, topPanel, outScroll);
+        outputTabs.addTab("Log", outScroll);
+        outputTabs.addTab("Calculation Steps", traceView);
+        outputTabs.addTab("Payload", actions.payloadView);
+        outputTabs.addTab("HD Profile", actions.hdChart);
+        JSplitPane splitPane = new JSplitPane(JSplitPane.VERTICAL_SPLIT, topPanel, outputTabs);
         splitPane.setDividerLocation(300);
         splitPane.setResizeWeight(0.6);
         splitPane.setOneTouchExpandable(true);
@@ -114,12 +139,26 @@ public class CrcGuiBigInt extends JFrame {
 
         encodeBtn.addActionListener(e -> filterInvalidInputsAndAction(1));
         checkBtn.addActionListener(e -> filterInvalidInputsAndAction(2));
-        inputModeBtn.addActionListener(e -> toggleAsciiMode());
-        simulateErrorBtn.addActionListener(e -> simulateError());
+        loadBtn.addActionListener(e -> actions.loadFile());
+        simulateErrorBtn.addActionListener(e -> actions.simulateError());
+        hdBtn.addActionListener(e -> actions.analyzeHd());
+        monteCarloBtn.addActionListener(e -> actions.monteCarlo());
+        infoBtn.addActionListener(e -> actions.polynomialInfo());
+        searchBtn.addActionListener(e -> actions.searchPolynomials(bits -> {
+            crcTypeCombo.setSelectedItem("Custom CRC");
+            customWidthField.setText(String.valueOf(bits.length() - 1));
+            divisorField.setText(bits);
+            updateLights();
+        }));
+        cancelBtn.addActionListener(e -> {
+            if (actions.cancel()) {
+                cancelBtn.setEnabled(false); //Enabled again by the next setBusy(true)
+            }
+        });
         clearBtn.addActionListener(e -> {
             inputArea.setText("");
             outputArea.setText("");
-            lastCodeword = "";
+            actions.clear();
         });
 
         pack();
@@ -127,214 +166,25 @@ public class CrcGuiBigInt extends JFrame {
         setVisible(true);
     }
 
-    // --- CRC Core ---
-
-    /**
-     * Bitwise MSB-first CRC encode.
-     * @param width length of polynomial (poly bitstring length), degree = width - 1
-     * @param poly polynomial as BigInteger with bit-length width (leading 1 set)
-     */
-    private String encodeBitwise(String data, BigInteger poly, int width) {
-        if (data == null || data.isEmpty()) {
-            throw new IllegalArgumentException("Input data cannot be empty");
-        }
-        int degree = width - 1;
-        BigInteger msg = new BigInteger(data, 2).shiftLeft(degree);
-        int totalBits = data.length() + degree;
-
-        for (int i = totalBits - 1; i >= degree; i--) {
-            if (msg.testBit(i)) {
-                msg = msg.xor(poly.shiftLeft(i - degree));
-            }
-        }
-
-        BigInteger remainder = msg.and(BigInteger.ONE.shiftLeft(degree).subtract(BigInteger.ONE));
-        String remainderStr = String.format("%" + degree + "s", remainder.toString(2)).replace(' ', '0');
-        return data + remainderStr;
-    }
-
-    /**
-     * Lookup (byte-wise) MSB-first encode. Fallback to bitwise if degree < 8.
-     * @param poly full polynomial BigInteger.
-     */
-    private String encodeLookup(String data, BigInteger poly, int width) {
-        if (data == null || data.isEmpty()) throw new IllegalArgumentException("Input data cannot be empty");
-        int degree = width - 1;
-        if (degree < 8) return encodeBitwise(data, poly, width);
-
-        BigInteger[] table = buildCrcTable(poly, width);
-        BigInteger maskFull = BigInteger.ONE.shiftLeft(degree).subtract(BigInteger.ONE);
-
-        String augStr = data; // Fixed: no augment for encode
-        int totalBits = augStr.length();
-        int fullBytes = totalBits / 8;
-
-        BigInteger crc = BigInteger.ZERO;
-        for (int i = 0; i < fullBytes; i++) {
-            String byteStr = augStr.substring(i * 8, (i + 1) * 8);
-            int byteVal = Integer.parseInt(byteStr, 2);
-            int crcTop = crc.shiftRight(degree - 8).and(BigInteger.valueOf(0xFF)).intValue();
-            int index = (crcTop ^ byteVal) & 0xFF;
-            crc = crc.shiftLeft(8).xor(table[index]).and(maskFull);
-            outputArea.append(String.format("Encode - Byte %d: index=%d, crc=%s\n", (i + 1), index, crc.toString(2)));
-        }
-
-        // Fixed: bit-by-bit for remaining bits
-        int remainingBits = totalBits % 8;
-        if (remainingBits > 0) {
-            String remainingStr = augStr.substring(fullBytes * 8);
-            for (int j = 0; j < remainingBits; j++) {
-                int bit = remainingStr.charAt(j) - '0';
-                crc = crc.xor(BigInteger.valueOf(bit).shiftLeft(degree - 1)).and(maskFull);
-                if (crc.testBit(degree - 1)) {
-                    crc = crc.shiftLeft(1).xor(poly).and(maskFull);
-                } else {
-                    crc = crc.shiftLeft(1).and(maskFull);
-                }
-                outputArea.append(String.format("Encode - Bit %d: bit=%d, crc=%s\n", j + 1, bit, crc.toString(2)));
-            }
-        }
-
-        String remainderStr = String.format("%" + degree + "s", crc.toString(2)).replace(' ', '0');
-        return data + remainderStr;
-    }
-
-    /**
-     * Bitwise MSB-first CRC decode.
-     */
-    private boolean decodeBitwise(String codeword, BigInteger poly, int width) {
-        if (codeword == null || codeword.isEmpty()) return false;
-        int degree = width - 1;
-        if (codeword.length() < degree) return false;
-
-        BigInteger msg = new BigInteger(codeword, 2);
-        BigInteger divisor = poly;
-        int totalBits = codeword.length();
-
-        for (int i = totalBits - 1; i >= degree; i--) {
-            if (msg.testBit(i)) {
-                msg = msg.xor(divisor.shiftLeft(i - degree)).and(BigInteger.ONE.shiftLeft(totalBits).subtract(BigInteger.ONE));
-            }
-        }
-        BigInteger remainder = msg.and(BigInteger.ONE.shiftLeft(degree).subtract(BigInteger.ONE));
-        outputArea.append("DecodeBitwise remainder: " + remainder.toString(2) + "\n");
-        return remainder.equals(BigInteger.ZERO);
-    }
-
-    /**
-     * Lookup (byte-wise) MSB-first decode. Fallback to bitwise if degree < 8.
-     */
-    private boolean decodeLookup(String codeword, BigInteger poly, int width) {
-        if (codeword == null || codeword.isEmpty()) return false;
-        int degree = width - 1;
-        if (codeword.length() < degree) return false;
-        if (degree < 8) return decodeBitwise(codeword, poly, width);
-
-        BigInteger[] table = buildCrcTable(poly, width);
-        BigInteger maskFull = BigInteger.ONE.shiftLeft(degree).subtract(BigInteger.ONE);
-        String augStr = codeword;
-        int totalBits = augStr.length();
-        int fullBytes = totalBits / 8;
-
-        BigInteger crc = BigInteger.ZERO;
-        for (int i = 0; i < fullBytes; i++) {
-            String byteStr = augStr.substring(i * 8, (i + 1) * 8);
-            int byteVal = Integer.parseInt(byteStr, 2);
-            int crcTop = crc.shiftRight(degree - 8).and(BigInteger.valueOf(0xFF)).intValue();
-            int index = (crcTop ^ byteVal) & 0xFF;
-            crc = crc.shiftLeft(8).xor(table[index]).and(maskFull);
-            outputArea.append(String.format("Decode - Byte %d: index=%d, crc=%s\n", (i + 1), index, crc.toString(2)));
-        }
-        
-        int remainingBits = totalBits % 8;
-        if (remainingBits > 0) {
-            String remainingStr = augStr.substring(fullBytes * 8);
-            for (int j = 0; j < remainingBits; j++) {
-                int bit = remainingStr.charAt(j) - '0';
-                crc = crc.xor(BigInteger.valueOf(bit).shiftLeft(degree - 1)).and(maskFull);
-                if (crc.testBit(degree - 1)) {
-                    crc = crc.shiftLeft(1).xor(poly).and(maskFull);
-                } else {
-                    crc = crc.shiftLeft(1).and(maskFull);
-                }
-                outputArea.append(String.format("Decode - Bit %d: bit=%d, crc=%s\n", j + 1, bit, crc.toString(2)));
-            }
-        }
-        return crc.equals(BigInteger.ZERO);
-    }
-
-    /**
-     * Build a 256-entry CRC table for MSB-first (non-reflected) algorithm.
-     * Only for degree >= 8. Poly is full polynomial with leading 1.
-     */
-    private BigInteger[] buildCrcTable(BigInteger poly, int width) {
-        if (cachedTable != null && Objects.equals(cachedPoly, poly) && cachedWidth == width) {
-            outputArea.append("Using cached lookup table.\n");
-            return cachedTable;
-        }
-
-        int degree = width - 1;
-        if (degree < 8) {
-            outputArea.append("Polynomial degree < 8, not using lookup table.\n");
-            cachedTable = null;
-            cachedPoly = poly;
-            cachedWidth = width;
-            return null;
-        }
-
-        BigInteger[] table = new BigInteger[256];
-        BigInteger maskFull = BigInteger.ONE.shiftLeft(degree).subtract(BigInteger.ONE);
-        BigInteger polyXor = poly.and(maskFull); // Remove leading bit (x^degree)
-
-        for (int i = 0; i < 256; i++) {
-            BigInteger crc = BigInteger.valueOf(i).shiftLeft(degree - 8).and(maskFull);
-            for (int j = 0; j < 8; j++) {
-                if (crc.testBit(degree - 1)) {
-                    crc = crc.shiftLeft(1).xor(polyXor).and(maskFull);
-                } else {
-                    crc = crc.shiftLeft(1).and(maskFull);
-                }
-            }
-            table[i] = crc;
-            if (i == 80 || i == 208 || i == 219) {
-                outputArea.append(String.format("Table[%d] = %s\n", i, crc.toString(2)));
-            }
-        }
-
-        cachedTable = table;
-        cachedPoly = poly;
-        cachedWidth = width;
-        return table;
-    }
-
     private void filterInvalidInputsAndAction(int mode) {
         String divisor = removeWhitespace(divisorField.getText());
         if (divisor.isEmpty()) {
             showError("Divisor field is empty.");
             return;
         }
-        String data = inputArea.getText().trim();
-        if (data.isEmpty() || data.equals(INPUT_PLACEHOLDER)) {
+        String text = inputArea.getText().trim();
+        if (text.isEmpty() || text.equals(INPUT_PLACEHOLDER)) {
             showError("Input field is empty.");
             return;
         }
-        if (asciiMode) {
-            try {
-                data = asciiToBinary(data);
-                toggleAsciiMode(); //turn off ASCII mode after conversion
-            } catch (IllegalArgumentException ex) {
-                showError(ex.getMessage());
-                return;
-            }
-        }
-        if (!data.matches("[01]+")) {
-            showError("Input must be binary (0/1) or use ASCII mode.");
-            return;
-        }
-        if (data.length() > 1_000_000) {
-            showError("Input is too long. Maximum length is 1,000,000 bits.");
+        BitMessage data;
+        try {
+            data = actions.readInput(text);
+        } catch (IllegalArgumentException ex) {
+            showError(ex.getMessage());
             return;
         }
+        String source = actions.sourceOf(data);
         String selectedCrc = (String) crcTypeCombo.getSelectedItem();
         int bitWidth;
         try {
@@ -348,79 +198,81 @@ public class CrcGuiBigInt extends JFrame {
             showError(error);
             return;
         }
-        BigInteger poly;
+        int threads = (Integer) threadsSpinner.getValue();
+        int maxBurst = (Integer) correctSpinner.getValue();
+        CrcEngineSelector.Choice choice;
         try {
-            poly = new BigInteger(divisor, 2);
-        } catch (NumberFormatException ex) {
-            showError("Invalid polynomial: too large for processing.");
+            choice = CrcEngineSelector.select((CrcEngineSelector.Backend) engineCombo.getSelectedItem(), divisor, data.length(), showCalcSteps.isSelected(), threads);
+        } catch (IllegalArgumentException ex) {
+            showError(ex.getMessage());
             return;
         }
-        boolean useLookup = lookupOn.isSelected();
+        CrcEngine engine = choice.engine();
         outputArea.setText(""); // Clear outputArea before new operation
-        outputArea.append(String.format("Selected: %s | Lookup: %s\n", selectedCrc, useLookup ? "ON" : "OFF"));
-        long start = System.nanoTime();
-        if (mode == 1) {
-            try {
-                lastCodeword = useLookup ? encodeLookup(data, poly, bitWidth) : encodeBitwise(data, poly, bitWidth);
-                String remainder = lastCodeword.substring(data.length());
-                long end = System.nanoTime();
-                outputArea.append("Data: " + data + "\n");
-                outputArea.append("Divisor: " + divisor + "\n");
-                outputArea.append("Remainder: " + remainder + "\n");
-                outputArea.append("Codeword: " + lastCodeword + "\n");
-                outputArea.append(String.format("Encode done in %.3f ms\n\n", (end - start) / 1e6));
-                inputArea.setText(lastCodeword);
-            } catch (IllegalArgumentException ex) {
-                showError("Encoding failed: " + ex.getMessage());
-                lastCodeword = "";
-            }
-        } else if (mode == 2) {
-            String codeword = removeWhitespace(inputArea.getText());
-            boolean valid = useLookup ? decodeLookup(codeword, poly, bitWidth) : decodeBitwise(codeword, poly, bitWidth);
-            long end = System.nanoTime();
-            outputArea.append("Codeword: " + codeword + "\n");
-            outputArea.append(valid ? "✅ No error.\n" : "❌ Error detected.\n");
-            outputArea.append(String.format("Decode done in %.3f ms\n\n", (end - start) / 1e6));
+        outputArea.append(String.format("Selected: %s | Engine: %s\n", selectedCrc, choice));
+        trace = showCalcSteps.isSelected() && engine.traces() ? new CrcTrace((Integer) traceCapSpinner.getValue(), bitWidth - 1) : null;
+        if (showCalcSteps.isSelected() && trace == null) {
+            outputArea.append("Calculation steps are not recorded for " + engine.name() + ".\n");
         }
+        CrcTrace runTrace = trace;
+        String title = mode == 1 ? "Encode" : "Decode";
+        actions.run(data.length(), () -> traceView.show(title, runTrace), w -> {
+            StringBuilder log = w.log();
+            if (mode == 1) {
+                BitMessage codeword;
+                try (engine) {
+                    codeword = data.append(engine.compute(data, runTrace, w::advance));
+                } catch (IllegalArgumentException ex) {
+                    throw new IllegalArgumentException("Encoding failed: " + ex.getMessage(), ex);
+                }
+                String remainder = codeword.toBinaryString(data.length(), codeword.length());
+                long elapsed = w.elapsedNanos();
+                log.append("Data: ").append(data.preview(CrcGuiActions.DISPLAY_MAX_BITS)).append("\n");
+                log.append("Divisor: ").append(divisor).append("\n");
+                log.append("Remainder: ").append(remainder).append("\n");
+                log.append("Codeword: ").append(codeword.preview(CrcGuiActions.DISPLAY_MAX_BITS)).append("\n");
+                log.append(String.format("Encode done in %.3f ms\n\n", elapsed / 1e6));
+                return () -> {
+                    actions.payloadView.show("Codeword", codeword, bitWidth - 1, null);
+                    actions.showInput(codeword, source != null ? source + " + CRC" : null, divisor);
+                };
+            }
+            BitMessage remainder;
+            try (engine) {
+                remainder = engine.compute(data, runTrace, w::advance);
+            }
+            boolean valid = remainder.isZero();
+            log.append("Codeword: ").append(data.preview(CrcGuiActions.DISPLAY_MAX_BITS)).append("\n");
+            log.append("Remainder: ").append(remainder.toBinaryString()).append("\n");
+            log.append(valid ? "✅ No error.\n" : "❌ Error detected.\n");
+            BitMessage corrected = !valid && maxBurst > 0 ? actions.correct(data, divisor, maxBurst, log) : null;
+            long elapsed = w.elapsedNanos();
+            log.append(String.format("Decode done in %.3f ms\n\n", elapsed / 1e6));
+            if (corrected != null) {
+                return () -> {
+                    actions.payloadView.show("Corrected codeword", corrected, bitWidth - 1, data);
+                    actions.showInput(corrected, source, divisor);
+                };
+            }
+            return () -> {
+                actions.payloadView.show(valid ? "Codeword" : "Received codeword", data, bitWidth - 1, null);
+                if (valid) actions.markVerified(data, divisor);
+            };
+        });
     }
 
-    // --- GUI & Utility ---
-
-    private void simulateError() {
-        String data = removeWhitespace(inputArea.getText());
-        if (data.isEmpty() || !data.matches("[01]+")) {
-            showError("Input must be binary.");
-            return;
-        }
-        String input = JOptionPane.showInputDialog(this, "Bits to flip:", "1");
-        if (input == null) return;
-        int num;
-        try {
-            num = Integer.parseInt(input);
-        } catch (NumberFormatException ex) {
-            showError("Invalid number.");
-            return;
-        }
-        if (num <= 0 || num > data.length()) {
-            showError("Number of bits must be between 1 and " + data.length());
-            return;
-        }
-        char[] bits = data.toCharArray();
-        Random rand = new Random();
-        Set<Integer> flipped = new HashSet<>();
-        while (flipped.size() < num) {
-            int pos = rand.nextInt(bits.length);
-            if (flipped.add(pos)) bits[pos] = bits[pos] == '0' ? '1' : '0';
+    /**
+     * Disables the action buttons while a computation runs and shows the Cancel button instead.
+     */
+    private void setBusy(boolean busy) {
+        for (Component c : buttons.getComponents()) {
+            if (c instanceof JButton) c.setEnabled(!busy);
         }
-        String corrupted = new String(bits);
-        inputArea.setText(corrupted);
-        JOptionPane.showMessageDialog(this, "Flipped " + num + " bit(s) at: " + flipped);
+        cancelBtn.setEnabled(busy);
+        cancelBtn.setVisible(busy);
     }
 
-    private void toggleAsciiMode() {
-        asciiMode = !asciiMode;
-        inputModeBtn.setText(asciiMode ? "Input mode: ASCII" : "Input mode: Binary");
-    }
+    // --- GUI & Utility ---
 
     private JPanel createLightPanel(String label) {
         JPanel container = new JPanel();
@@ -506,16 +358,6 @@ public class CrcGuiBigInt extends JFrame {
         return ones % 2 == 0;
     }
 
-    private String asciiToBinary(String text) {
-        StringBuilder sb = new StringBuilder();
-        for (int i = 0; i < text.length(); i++) {
-            char c = text.charAt(i);
-            if (c > 255) throw new IllegalArgumentException("Non-ASCII character '" + c + "' at position " + (i + 1));
-            sb.append(String.format("%8s", Integer.toBinaryString(c)).replace(' ', '0'));
-        }
-        return sb.toString();
-    }
-
     private JTextArea addPlaceholder(JTextArea area, String placeholder) {
         area.setForeground(Color.GRAY);
         area.setText(placeholder);
@@ -577,5 +419,6 @@ public class CrcGuiBigInt extends JFrame {
 
     public static void main(String[] args) {
         SwingUtilities.invokeLater(CrcGuiBigInt::new);
+        CrcTableCache.prewarm(); //Build the predefined CRC tables while the window is being created
     }
 }
\ No newline at end of file
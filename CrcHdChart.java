@@ -0,0 +1,120 @@
+package Java.CNDC;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Step chart of Hamming distance against data-word length for one or more polynomials, from {@link CrcHdProfile}.
+ * Lines are drawn a pixel or two apart so polynomials with the same profile stay visible.
+ */
+final class CrcHdChart extends JPanel {
+    /**
+     * One polynomial's profile.
+     * @param label Legend text, e.g. "CRC32".
+     */
+    record Series(String label, List<CrcHdProfile.Point> points) {
+    }
+
+    private static final Color[] COLORS = {Color.BLACK, new Color(0xD62728), new Color(0x1F77B4), new Color(0x2CA02C),
+            new Color(0xFF7F0E), new Color(0x9467BD), new Color(0x8C564B), new Color(0xE377C2), new Color(0x17BECF),
+            new Color(0xBCBD22), Color.GRAY};
+    private static final int MARGIN = 48;
+
+    private final JLabel summary = new JLabel("No profile computed. Use HD Profile to analyse the divisor.");
+    private final Plot plot = new Plot();
+    private List<Series> series = List.of();
+
+    CrcHdChart() {
+        super(new BorderLayout(4, 4));
+        plot.setBackground(Color.WHITE);
+        plot.setPreferredSize(new Dimension(600, 260));
+        add(summary, BorderLayout.NORTH);
+        add(plot, BorderLayout.CENTER);
+    }
+
+    /**
+     * Shows finished profiles; call on the event dispatch thread.
+     */
+    void show(List<Series> profiles) {
+        series = List.copyOf(profiles);
+        int maxBits = series.isEmpty() || series.get(0).points().isEmpty() ? 0 : series.get(0).points().get(series.get(0).points().size() - 1).dataBits();
+        summary.setText(series.isEmpty() ? "No profile computed." : String.format("HD versus data length up to %,d bits (HD 5 means at least 5).", maxBits));
+        plot.repaint();
+    }
+
+    /**
+     * @return The lengths over which the HD stays the same, e.g. "HD 5: 8-2976 bits, HD 4: 3008-4000 bits";
+     * boundaries are only as fine as the sampled points.
+     */
+    static String ranges(List<CrcHdProfile.Point> points) {
+        List<String> parts = new ArrayList<>();
+        int start = 0;
+        for (int i = 1; i <= points.size(); i++) {
+            if (i == points.size() || points.get(i).hd() != points.get(start).hd()) {
+                int hd = points.get(start).hd();
+                parts.add(String.format("HD %s: %d-%d bits", hd >= 5 ? ">=5" : String.valueOf(hd), points.get(start).dataBits(), points.get(i - 1).dataBits()));
+                start = i;
+            }
+        }
+        return String.join(", ", parts);
+    }
+
+    private final class Plot extends JPanel {
+        @Override
+        protected void paintComponent(Graphics g) {
+            super.paintComponent(g);
+            Graphics2D g2 = (Graphics2D) g.create();
+            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            int w = getWidth() - 2 * MARGIN;
+            int h = getHeight() - 2 * MARGIN;
+            int maxBits = 1;
+            for (Series s : series) {
+                for (CrcHdProfile.Point p : s.points()) maxBits = Math.max(maxBits, p.dataBits());
+            }
+            g2.setColor(Color.LIGHT_GRAY);
+            for (int hd = 1; hd <= 5; hd++) {
+                int y = yOf(hd, h);
+                g2.drawLine(MARGIN, y, MARGIN + w, y);
+                g2.setColor(Color.DARK_GRAY);
+                g2.drawString(hd == 5 ? "≥5" : String.valueOf(hd), MARGIN - 24, y + 4);
+                g2.setColor(Color.LIGHT_GRAY);
+            }
+            g2.setColor(Color.DARK_GRAY);
+            g2.drawLine(MARGIN, MARGIN + h, MARGIN + w, MARGIN + h);
+            for (int t = 0; t <= 4; t++) {
+                int x = MARGIN + w * t / 4;
+                g2.drawLine(x, MARGIN + h, x, MARGIN + h + 4);
+                g2.drawString(String.valueOf((long) maxBits * t / 4), x - 10, MARGIN + h + 18);
+            }
+            g2.drawString("Data bits", MARGIN + w / 2 - 24, MARGIN + h + 34);
+            g2.drawString("HD", 8, MARGIN - 12);
+
+            g2.setStroke(new BasicStroke(2f));
+            for (int i = 0; i < series.size(); i++) {
+                Series s = series.get(i);
+                int offset = 2 * i - series.size();
+                g2.setColor(COLORS[i % COLORS.length]);
+                int prevX = MARGIN, prevY = -1;
+                for (CrcHdProfile.Point p : s.points()) {
+                    int x = MARGIN + (int) ((long) w * p.dataBits() / maxBits);
+                    int y = yOf(p.hd(), h) + offset;
+                    if (prevY < 0) prevY = y;
+                    g2.drawLine(prevX, prevY, x, prevY);
+                    g2.drawLine(x, prevY, x, y);
+                    prevX = x;
+                    prevY = y;
+                }
+                int ly = MARGIN + 14 * i;
+                g2.drawLine(MARGIN + w - 150, ly - 4, MARGIN + w - 130, ly - 4);
+                g2.drawString(s.label(), MARGIN + w - 124, ly);
+            }
+            g2.dispose();
+        }
+
+        private int yOf(int hd, int h) {
+            return MARGIN + h - h * (hd - 1) / 4;
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package Java.CNDC;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.LongConsumer;
+
+/**
+ * Hamming-distance profile of a generator polynomial: for each data-word length, the number of undetectable
+ * error patterns of weight 2, 3 and 4 and the resulting Hamming distance.
+ * <p>
+ * Flipping codeword bit i changes the syndrome by s_i = x^i mod P, so a pattern is undetectable exactly when its
+ * syndromes XOR to zero. One pass over the positions counts, for each new position l, the earlier positions with
+ * s_i = s_l (weight 2), the earlier pairs with s_i ^ s_j = s_l (weight 3), and the earlier pairs whose syndrome
+ * sum repeats (weight 4: every zero-sum quadruple shows up as 3 matching pairs of pairs, after removing the
+ * matches that share a position). Counting by the highest position makes the totals cumulative, so one pass up to
+ * the longest codeword gives every shorter length too. The positions are taken in blocks of {@link #BLOCK_ROWS}:
+ * fork/join workers first split the block's rows, computing each pair sum once and sorting it by value into one
+ * bucket per partition, then each partition replays its buckets in position order against its own primitive counter
+ * table. Time is O(n^2) and memory O(min(n^2, 2^degree)) for codeword length n, hence the
+ * {@link #MAX_CODEWORD_BITS} bound.
+ */
+public final class CrcHdProfile {
+    /** Longest codeword analysed; about 8 million pair sums. */
+    public static final int MAX_CODEWORD_BITS = 4096;
+    /** Positions whose pair sums are bucketed per round; at most about a million sums at the longest codeword. */
+    private static final int BLOCK_ROWS = 256;
+
+    /**
+     * One point of the profile.
+     * @param hd Hamming distance: the smallest weight with an undetectable pattern, or 5 meaning "at least 5".
+     * @param weight1 Undetectable single-bit errors, only non-zero when P is divisible by x.
+     */
+    public record Point(int dataBits, int hd, long weight1, long weight2, long weight3, long weight4) {
+    }
+
+    private final int degree;
+    private final long polyLow;
+
+    /**
+     * @param polyLow The polynomial without its leading x^degree term, right-aligned.
+     * @param degree Degree of the polynomial, 1 to 64.
+     */
+    public CrcHdProfile(long polyLow, int degree) {
+        if (degree < 1 || degree > 64) throw new IllegalArgumentException("HD profile supports CRC-1 to CRC-64, got CRC-" + degree);
+        this.degree = degree;
+        this.polyLow = polyLow & CrcLongEngine.mask(degree);
+    }
+
+    public static CrcHdProfile of(String polyBits) {
+        return new CrcHdProfile(new BigInteger(polyBits, 2).longValue(), polyBits.length() - 1);
+    }
+
+    /**
+     * @return True if a polynomial of this width (degree = width - 1) is supported.
+     */
+    public static boolean fits(int width) {
+        return width >= 2 && width <= 65;
+    }
+
+    public int degree() {
+        return degree;
+    }
+
+    /**
+     * @param maxDataBits Longest data word, so the longest codeword is maxDataBits + degree bits.
+     * @param step Distance between reported data lengths; maxDataBits is always reported.
+     * @param parallelism Worker threads.
+     * @param progress Receives the highest codeword position processed, or null; an exception it throws
+     *                 (e.g. a cancellation) stops the analysis and is rethrown.
+     */
+    public List<Point> analyze(int maxDataBits, int step, int parallelism, LongConsumer progress) {
+        if (maxDataBits < 1 || step < 1) throw new IllegalArgumentException("Data length and step must be at least 1");
+        if (parallelism < 1) throw new IllegalArgumentException("Parallelism must be at least 1");
+        int n = maxDataBits + degree;
+        if (n > MAX_CODEWORD_BITS) {
+            throw new IllegalArgumentException("HD profile supports codewords up to " + MAX_CODEWORD_BITS + " bits, got " + n);
+        }
+        long mask = CrcLongEngine.mask(degree);
+        long[] syn = new long[n];
+        syn[0] = 1;
+        for (int i = 1; i < n; i++) {
+            long s = syn[i - 1];
+            long top = (s >>> (degree - 1)) & 1;
+            s = (s << 1) & mask;
+            syn[i] = top != 0 ? s ^ polyLow : s;
+        }
+
+        long[] w1 = new long[n];
+        long[] w2 = new long[n];
+        Counter single = new Counter();
+        for (int l = 0; l < n; l++) {
+            if (syn[l] == 0) w1[l] = 1;
+            w2[l] = single.getAndIncrement(syn[l]);
+        }
+
+        Partition[] parts = new Partition[parallelism];
+        Bucket[][] buckets = new Bucket[parallelism][parallelism]; //[slice of the block's rows][partition]
+        for (int p = 0; p < parallelism; p++) {
+            parts[p] = new Partition(syn, p, parallelism);
+            for (int t = 0; t < parallelism; t++) buckets[t][p] = new Bucket();
+        }
+        int[] bounds = new int[parallelism + 1];
+        List<ForkJoinTask<?>> tasks = new ArrayList<>();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            for (int from = 0; from < n; from += BLOCK_ROWS) {
+                int to = Math.min(n, from + BLOCK_ROWS);
+                slice(from, to, bounds);
+                tasks.clear();
+                for (int t = 0; t < parallelism; t++) {
+                    int lo = bounds[t], hi = bounds[t + 1];
+                    Bucket[] out = buckets[t];
+                    tasks.add(pool.submit(() -> scatter(syn, lo, hi, out)));
+                }
+                for (ForkJoinTask<?> task : tasks) task.join();
+                tasks.clear();
+                for (Partition part : parts) tasks.add(pool.submit(() -> part.count(bounds, buckets)));
+                for (ForkJoinTask<?> task : tasks) task.join();
+                if (progress != null) progress.accept(to - 1);
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        List<Point> points = new ArrayList<>();
+        long a1 = 0, a2 = 0, a3 = 0, pairMatches = 0;
+        int next = Math.min(step, maxDataBits);
+        for (int l = 0; l < n; l++) {
+            a1 += w1[l];
+            a2 += w2[l];
+            for (Partition part : parts) {
+                a3 += part.weight3[l];
+                pairMatches += part.pairMatches[l];
+            }
+            int length = l + 1;
+            if (length - degree == next) {
+                long a4 = (pairMatches - a2 * (length - 2)) / 3;
+                int hd = a1 > 0 ? 1 : a2 > 0 ? 2 : a3 > 0 ? 3 : a4 > 0 ? 4 : 5;
+                points.add(new Point(next, hd, a1, a2, a3, a4));
+                next = next == maxDataBits ? Integer.MAX_VALUE : Math.min(next + step, maxDataBits);
+            }
+        }
+        return points;
+    }
+
+    /**
+     * Splits rows from to to into bounds.length - 1 slices of about the same number of pairs; row l has l of them.
+     */
+    private static void slice(int from, int to, int[] bounds) {
+        int slices = bounds.length - 1;
+        long pairs = ((long) to * (to - 1) - (long) from * (from - 1)) / 2;
+        bounds[0] = from;
+        long seen = 0;
+        int l = from;
+        for (int t = 1; t < slices; t++) {
+            while (l < to && seen * slices < pairs * t) seen += l++;
+            bounds[t] = l;
+        }
+        bounds[slices] = to;
+    }
+
+    private static int partitionOf(long sum, int parts) {
+        return Math.floorMod(Long.hashCode(sum * 0x9E3779B97F4A7C15L), parts);
+    }
+
+    /**
+     * Computes the pair sums of rows lo to hi once, sending each to the bucket of the partition that owns its value.
+     */
+    private static void scatter(long[] syn, int lo, int hi, Bucket[] out) {
+        for (Bucket b : out) b.clear();
+        for (int l = lo; l < hi; l++) {
+            long sl = syn[l];
+            if (out.length == 1) {
+                Bucket b = out[0];
+                b.reserve(l);
+                for (int i = 0; i < l; i++) b.sums[b.size++] = syn[i] ^ sl;
+            } else {
+                for (int i = 0; i < l; i++) {
+                    long sum = syn[i] ^ sl;
+                    out[partitionOf(sum, out.length)].add(sum);
+                }
+            }
+            for (Bucket b : out) b.endRow();
+        }
+    }
+
+    /**
+     * The pair sums one slice of a block sent to one partition, in position order, with where each row ends.
+     */
+    private static final class Bucket {
+        long[] sums = new long[1024];
+        int size;
+        int[] rowEnds = new int[BLOCK_ROWS];
+        int rows;
+
+        void clear() {
+            size = 0;
+            rows = 0;
+        }
+
+        void reserve(int extra) {
+            if (size + extra > sums.length) sums = Arrays.copyOf(sums, Math.max(sums.length * 2, size + extra));
+        }
+
+        void add(long sum) {
+            if (size == sums.length) sums = Arrays.copyOf(sums, size * 2);
+            sums[size++] = sum;
+        }
+
+        void endRow() {
+            rowEnds[rows++] = size;
+        }
+    }
+
+    /**
+     * Counts the pair sums owned by one worker (those whose hash falls in its share) for every highest position.
+     */
+    private static final class Partition {
+        private final long[] syn;
+        private final int id;
+        private final int parts;
+        private final Counter pairs = new Counter();
+        final long[] weight3;
+        final long[] pairMatches;
+
+        Partition(long[] syn, int id, int parts) {
+            this.syn = syn;
+            this.id = id;
+            this.parts = parts;
+            this.weight3 = new long[syn.length];
+            this.pairMatches = new long[syn.length];
+        }
+
+        /**
+         * Replays this partition's buckets of one block, slice by slice so the rows stay in order.
+         * @param bounds First row of each slice, then the end of the block.
+         */
+        void count(int[] bounds, Bucket[][] buckets) {
+            for (int t = 0; t < parts; t++) {
+                Bucket b = buckets[t][id];
+                int k = 0;
+                for (int l = bounds[t]; l < bounds[t + 1]; l++) {
+                    long sl = syn[l];
+                    if (partitionOf(sl, parts) == id) weight3[l] = pairs.get(sl);
+                    long matches = 0;
+                    for (int end = b.rowEnds[l - bounds[t]]; k < end; k++) matches += pairs.getAndIncrement(b.sums[k]);
+                    pairMatches[l] = matches;
+                }
+            }
+        }
+    }
+
+    /**
+     * Open-addressing long to int counter; a slot is empty while its count is zero.
+     */
+    private static final class Counter {
+        private long[] keys = new long[1024];
+        private int[] counts = new int[1024];
+        private int size;
+
+        private int slot(long key, int capacityMask) {
+            int i = (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & capacityMask;
+            while (counts[i] != 0 && keys[i] != key) i = (i + 1) & capacityMask;
+            return i;
+        }
+
+        int get(long key) {
+            return counts[slot(key, keys.length - 1)];
+        }
+
+        int getAndIncrement(long key) {
+            int i = slot(key, keys.length - 1);
+            int c = counts[i];
+            if (c == 0) {
+                keys[i] = key;
+                if (++size * 2 > keys.length) {
+                    counts[i] = 1;
+                    grow();
+                    return 0;
+                }
+            }
+            counts[i] = c + 1;
+            return c;
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            int[] oldCounts = counts;
+            keys = new long[oldKeys.length * 2];
+            counts = new int[oldKeys.length * 2];
+            for (int j = 0; j < oldKeys.length; j++) {
+                if (oldCounts[j] != 0) {
+                    int i = slot(oldKeys[j], keys.length - 1);
+                    keys[i] = oldKeys[j];
+                    counts[i] = oldCounts[j];
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package Java.CNDC;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+
+/**
+ * How the text in the GUIs' input area is turned into a message. Every format but Binary decodes straight to bytes
+ * and wraps them with {@link BitMessage#ofBytes}, so no '0'/'1' string is built and no regex runs over the input.
+ * Whitespace between digits is ignored in Binary, Hex and Base64, so pasted dumps work as they are.
+ */
+public enum CrcInputFormat {
+    BINARY("Binary"),
+    ASCII("ASCII"),
+    HEX("Hex"),
+    BASE64("Base64"),
+    UTF8("UTF-8");
+
+    /** Largest file {@link #readFile} loads; a message is indexed by an int bit position. */
+    public static final int MAX_FILE_BYTES = Integer.MAX_VALUE / 8;
+
+    private final String label;
+
+    CrcInputFormat(String label) {
+        this.label = label;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the text is not valid in this format, naming the offending position.
+     */
+    public BitMessage decode(String text) {
+        return switch (this) {
+            case BINARY -> BitMessage.parse(stripWhitespace(text));
+            case ASCII -> BitMessage.ofBytes(latin1(text));
+            case HEX -> hex(stripWhitespace(text));
+            case BASE64 -> BitMessage.ofBytes(base64(stripWhitespace(text)));
+            case UTF8 -> BitMessage.ofBytes(text.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    /**
+     * Reads a whole file as raw bytes, without going through the input area.
+     */
+    public static BitMessage readFile(Path path) throws IOException {
+        long size = Files.size(path);
+        if (size > MAX_FILE_BYTES) {
+            throw new IllegalArgumentException(String.format("%s is %,d bytes; the simulator holds up to %,d. Use CrcCli, which streams files of any size.",
+                    path.getFileName(), size, MAX_FILE_BYTES));
+        }
+        return BitMessage.ofBytes(Files.readAllBytes(path));
+    }
+
+    private static String stripWhitespace(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    private static byte[] latin1(String text) {
+        byte[] out = new byte[text.length()];
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c > 255) throw new IllegalArgumentException("Non-ASCII character '" + c + "' at position " + (i + 1) + "; use UTF-8 input.");
+            out[i] = (byte) c;
+        }
+        return out;
+    }
+
+    /**
+     * An odd digit count leaves a final half byte, which becomes a 4-bit tail.
+     */
+    private static BitMessage hex(String digits) {
+        int from = digits.startsWith("0x") || digits.startsWith("0X") ? 2 : 0;
+        int n = digits.length() - from;
+        byte[] out = new byte[(n + 1) / 2];
+        for (int i = 0; i < n; i++) {
+            int v = Character.digit(digits.charAt(from + i), 16);
+            if (v < 0) throw new IllegalArgumentException("Input must be hex (0-9, A-F), found '" + digits.charAt(from + i) + "' at digit " + (i + 1));
+            out[i >>> 1] |= (byte) ((i & 1) == 0 ? v << 4 : v);
+        }
+        return BitMessage.ofBytes(out, n * 4);
+    }
+
+    private static byte[] base64(String text) {
+        try {
+            return Base64.getDecoder().decode(text);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Input must be Base64: " + ex.getMessage(), ex);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
@@ -0,0 +1,204 @@
+package Java.CNDC;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Loopback load generator for {@link CrcServer}: opens a number of connections, each sending verify frames back to
+ * back and timing every round trip, then reports requests per second and the latency percentiles.
+ * <pre>
+ * java Java.CNDC.CrcLoadClient [--port 7878 | --embedded] [--connections 16] [--requests 100000] [--size 1024]
+ *                               [--model CRC-32/ISO-HDLC] [--host 127.0.0.1]
+ * </pre>
+ * --embedded starts a server in the same JVM on a free loopback port, so one command measures the whole path.
+ * Each connection sends one random payload with its checksum computed locally, so every response is also checked.
+ * The first tenth of each connection's requests warms up the JIT and is not timed.
+ * Exit status: 0 on success, 1 if any response was wrong, 2 on bad usage or I/O errors.
+ */
+public final class CrcLoadClient {
+    private static final String USAGE = String.join("\n",
+            "Usage: CrcLoadClient [options]",
+            "  --host         server address (default loopback)",
+            "  --port         server port (default " + CrcServer.DEFAULT_PORT + ")",
+            "  --embedded     start a server in this JVM on a free loopback port instead",
+            "  --connections  concurrent connections (default 16)",
+            "  --requests     timed requests in total (default 100000)",
+            "  --size         payload bytes per request (default 1024)",
+            "  --model        predefined CRC name (default CRC-32/ISO-HDLC)");
+
+    private CrcLoadClient() {
+    }
+
+    public static void main(String[] args) {
+        try {
+            System.exit(run(args));
+        } catch (IllegalArgumentException ex) {
+            System.err.println("Error: " + ex.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+        } catch (IOException ex) {
+            System.err.println("I/O error: " + ex.getMessage());
+            System.exit(2);
+        }
+    }
+
+    static int run(String[] args) throws IOException {
+        InetAddress host = InetAddress.getLoopbackAddress();
+        int port = CrcServer.DEFAULT_PORT;
+        boolean embedded = false;
+        int connections = 16;
+        long requests = 100_000;
+        int size = 1024;
+        String modelArg = predefinedCRC.CRC32ISOHDLC.toString();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--host" -> host = InetAddress.getByName(value(args, ++i));
+                case "--port" -> port = (int) parseLong(args[i], value(args, ++i));
+                case "--embedded" -> embedded = true;
+                case "--connections" -> connections = (int) parseLong(args[i], value(args, ++i));
+                case "--requests" -> requests = parseLong(args[i], value(args, ++i));
+                case "--size" -> size = (int) parseLong(args[i], value(args, ++i));
+                case "--model" -> modelArg = value(args, ++i);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        if (connections < 1) throw new IllegalArgumentException("--connections must be at least 1.");
+        if (requests < connections) throw new IllegalArgumentException("--requests must be at least --connections.");
+        if (requests > Integer.MAX_VALUE) throw new IllegalArgumentException("--requests must be at most " + Integer.MAX_VALUE + ".");
+        if (size < 0) throw new IllegalArgumentException("--size must not be negative.");
+        predefinedCRC model = CrcCli.resolveModel(modelArg);
+        if (model == null) throw new IllegalArgumentException("Unknown CRC model: " + modelArg);
+
+        CrcServer server = null;
+        InetSocketAddress address = new InetSocketAddress(host, port);
+        if (embedded) {
+            server = new CrcServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), Math.max(size + 300, 1 << 10), Math.max(connections, 1));
+            server.start();
+            address = server.address();
+        }
+        long[][] latencies = new long[connections][];
+        int[] failures = new int[connections];
+        long elapsed;
+        long sent = 0;
+        ExecutorService pool = CrcServer.newPerTaskExecutor();
+        try {
+            List<Future<?>> running = new ArrayList<>();
+            long start = System.nanoTime();
+            for (int c = 0; c < connections; c++) {
+                int id = c;
+                int count = (int) (requests / connections + (c < requests % connections ? 1 : 0));
+                sent += count + count / 10;
+                InetSocketAddress target = address;
+                int payloadSize = size;
+                running.add(pool.submit(() -> {
+                    latencies[id] = new long[count];
+                    failures[id] = connection(target, model, payloadSize, id, latencies[id]);
+                    return null;
+                }));
+            }
+            for (Future<?> f : running) f.get();
+            elapsed = System.nanoTime() - start;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted");
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof IOException io) throw io;
+            throw new IllegalStateException(ex.getCause());
+        } finally {
+            pool.shutdownNow();
+            if (server != null) server.close();
+        }
+
+        long[] all = new long[(int) requests];
+        int at = 0;
+        int failed = 0;
+        for (int c = 0; c < connections; c++) {
+            System.arraycopy(latencies[c], 0, all, at, latencies[c].length);
+            at += latencies[c].length;
+            failed += failures[c];
+        }
+        Arrays.sort(all);
+        System.out.println("Server: " + address + (embedded ? " (embedded, " + CrcServer.threadKind() + ")" : ""));
+        System.out.println(String.format(Locale.ROOT, "Model: %s | Payload: %d bytes | Connections: %d | Client threads: %s",
+                model, size, connections, CrcServer.threadKind()));
+        double seconds = elapsed / 1e9;
+        System.out.println(String.format(Locale.ROOT, "Requests: %,d timed, %,d with warm-up, in %.3f s | %,.0f requests/s | %.1f MB/s",
+                requests, sent, seconds, sent / seconds, sent * (double) size / 1e6 / seconds));
+        System.out.println(String.format(Locale.ROOT, "Latency: p50 %.1f us | p99 %.1f us | p99.9 %.1f us | max %.1f us",
+                percentile(all, 0.50) / 1e3, percentile(all, 0.99) / 1e3, percentile(all, 0.999) / 1e3, all[all.length - 1] / 1e3));
+        if (failed > 0) System.out.println("Wrong responses: " + failed);
+        return failed == 0 ? 0 : 1;
+    }
+
+    /**
+     * Runs one connection: a tenth of latencies.length requests untimed, then one timed round trip per slot of latencies.
+     * @return The number of responses that were not a matching checksum.
+     */
+    private static int connection(InetSocketAddress address, predefinedCRC model, int size, int seed, long[] latencies) throws IOException {
+        byte[] payload = new byte[size];
+        new SplittableRandom(seed).nextBytes(payload);
+        Crc crc = new Crc(model);
+        crc.update(payload, 0, payload.length);
+        long expected = crc.getValue();
+        ByteBuffer frame = CrcServer.request(CrcServer.OP_VERIFY, model.toString(), expected, payload, true);
+        ByteBuffer header = ByteBuffer.allocate(4);
+        ByteBuffer body = ByteBuffer.allocate(1 << 10);
+        int failed = 0;
+        try (SocketChannel channel = SocketChannel.open(address)) {
+            channel.socket().setTcpNoDelay(true);
+            int warmup = latencies.length / 10;
+            for (int i = -warmup; i < latencies.length; i++) {
+                long start = System.nanoTime();
+                frame.rewind();
+                CrcServer.writeFully(channel, frame);
+                header.clear();
+                CrcServer.readFully(channel, header, false);
+                int length = header.getInt(0);
+                if (length < 1 || length > body.capacity()) throw new IOException("Bad response length " + length);
+                body.clear().limit(length);
+                CrcServer.readFully(channel, body, false);
+                if (i >= 0) latencies[i] = System.nanoTime() - start;
+                body.flip();
+                byte status = body.get();
+                if (status == CrcServer.STATUS_ERROR) {
+                    throw new IOException("Server error: " + StandardCharsets.UTF_8.decode(body));
+                }
+                if (status != CrcServer.STATUS_OK || body.getLong() != expected) failed++;
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * @return The value at quantile q of sorted, nearest-rank.
+     */
+    static long percentile(long[] sorted, double q) {
+        int rank = (int) Math.ceil(q * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+
+    private static String value(String[] args, int i) {
+        if (i >= args.length) throw new IllegalArgumentException("Missing value for " + args[i - 1]);
+        return args[i];
+    }
+
+    private static long parseLong(String option, String s) {
+        try {
+            return Long.parseLong(s);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid number for " + option + ": " + s);
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package Java.CNDC;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.function.LongConsumer;
+
+/**
+ * Table-driven MSB-first CRC engine that keeps the register and the 256-entry table in primitive longs.
+ * Supports polynomial degrees 1 to 64 (width 2 to 65), so it covers every predefined CRC without allocating per byte.
+ * The tables come from {@link CrcTableCache}, so engines for the same polynomial share them.
+ * The register is kept left-aligned (CRC bits at the top of the long) internally, so the same byte step serves
+ * CRCs narrower than a byte: the register simply sits inside the top byte with zeros below it.
+ * The 1 to 7 bits after the last whole byte take one lookup in a second, tail table instead of a step per bit.
+ * All public methods take and return the CRC right-aligned, i.e. the plain degree-bit remainder.
+ */
+public final class CrcLongEngine implements CrcEngine {
+    private final int degree;
+    private final int shift;
+    private final long polyLow;
+    private final long[] table;
+    private final long[] tail;
+
+    /**
+     * @param polyLow The polynomial without its leading x^degree term, right-aligned.
+     * @param degree Degree of the polynomial (width - 1), between 1 and 64.
+     */
+    public CrcLongEngine(long polyLow, int degree) {
+        if (degree < 1 || degree > 64) {
+            throw new IllegalArgumentException("Long register engine supports CRC-1 to CRC-64, got CRC-" + degree);
+        }
+        this.degree = degree;
+        this.shift = 64 - degree;
+        this.polyLow = polyLow & mask(degree);
+        this.table = CrcTableCache.tables(this.polyLow, degree, CrcTableCache.Variant.SARWATE)[0];
+        this.tail = CrcTableCache.tables(this.polyLow, degree, CrcTableCache.Variant.TAIL)[0];
+    }
+
+    /**
+     * @param poly Full polynomial with the leading 1 set, as used by the GUIs.
+     * @param width Length of the polynomial bit string, degree = width - 1.
+     */
+    public static CrcLongEngine of(BigInteger poly, int width) {
+        return new CrcLongEngine(poly.longValue(), width - 1);
+    }
+
+    /**
+     * @param polyBits Polynomial bit string with the leading 1 written down.
+     */
+    public static CrcLongEngine of(String polyBits) {
+        return of(new BigInteger(polyBits, 2), polyBits.length());
+    }
+
+    /**
+     * @return True if a polynomial of this width (degree = width - 1) can run on the long register.
+     */
+    public static boolean fits(int width) {
+        return width >= 2 && width <= 65;
+    }
+
+    @Override
+    public String name() {
+        return "long register (Sarwate table)";
+    }
+
+    @Override
+    public int degree() {
+        return degree;
+    }
+
+    @Override
+    public boolean traces() {
+        return true;
+    }
+
+    /**
+     * Builds the left-aligned 256-entry table: entry i is the byte i shifted through 8 MSB-first steps.
+     */
+    static long[] buildTable(long polyLow, int degree) {
+        long alignedPoly = polyLow << (64 - degree);
+        long[] table = new long[256];
+        for (int i = 0; i < 256; i++) {
+            long crc = (long) i << 56;
+            for (int j = 0; j < 8; j++) {
+                crc = crc < 0 ? (crc << 1) ^ alignedPoly : crc << 1;
+            }
+            table[i] = crc;
+        }
+        return table;
+    }
+
+    /**
+     * Builds the left-aligned tail table: entry (1 << n) | v, for n from 1 to 7, is the n-bit value v shifted through
+     * n MSB-first steps, so a partial byte of any length is one lookup. Entries 0 and 1 are unused.
+     */
+    static long[] buildTailTable(long polyLow, int degree) {
+        long alignedPoly = polyLow << (64 - degree);
+        long[] table = new long[256];
+        for (int n = 1; n < 8; n++) {
+            for (int v = 0; v < 1 << n; v++) {
+                long crc = (long) v << (64 - n);
+                for (int j = 0; j < n; j++) {
+                    crc = crc < 0 ? (crc << 1) ^ alignedPoly : crc << 1;
+                }
+                table[1 << n | v] = crc;
+            }
+        }
+        return table;
+    }
+
+    static long mask(int degree) {
+        return degree == 64 ? -1L : (1L << degree) - 1;
+    }
+
+    /**
+     * Continues a CRC over whole bytes.
+     * @param crc The right-aligned register from a previous call, 0 to start.
+     * @return The updated right-aligned register.
+     */
+    public long update(long crc, byte[] bytes, int off, int len) {
+        long reg = crc << shift;
+        for (int i = off, end = off + len; i < end; i++) {
+            reg = (reg << 8) ^ table[(int) ((reg >>> 56) ^ bytes[i]) & 0xFF];
+        }
+        return reg >>> shift;
+    }
+
+    /**
+     * Continues a CRC over the remaining bytes of the buffer, advancing its position.
+     */
+    public long update(long crc, ByteBuffer buf) {
+        long reg = crc << shift;
+        while (buf.hasRemaining()) {
+            reg = (reg << 8) ^ table[(int) ((reg >>> 56) ^ buf.get()) & 0xFF];
+        }
+        return reg >>> shift;
+    }
+
+    /**
+     * Continues a CRC over one byte (low 8 bits of b).
+     */
+    public long update(long crc, int b) {
+        long reg = crc << shift;
+        return ((reg << 8) ^ table[(int) ((reg >>> 56) ^ b) & 0xFF]) >>> shift;
+    }
+
+    /**
+     * Continues a CRC over a single bit (MSB-first).
+     */
+    public long updateBit(long crc, int bit) {
+        long top = (crc >>> (degree - 1) ^ bit) & 1;
+        crc = (crc << 1) & mask(degree);
+        return top != 0 ? crc ^ polyLow : crc;
+    }
+
+    /**
+     * Continues a CRC over the low count bits of value (1 to 7), most significant first, with one tail-table lookup.
+     */
+    public long updateBits(long crc, int value, int count) {
+        long reg = crc << shift;
+        int index = (int) ((reg >>> (64 - count)) ^ value) & ((1 << count) - 1);
+        return ((reg << count) ^ tail[1 << count | index]) >>> shift;
+    }
+
+    /**
+     * Continues a CRC over a packed message, byte-wise for whole bytes and one tail lookup for the bits after them.
+     */
+    public long update(long crc, BitMessage message) {
+        return updateTail(update(crc, message, 0, message.fullBytes()), message);
+    }
+
+    /**
+     * Continues a CRC over the whole bytes fromByte to toByte-1 of a packed message, so long messages can be
+     * processed in chunks.
+     */
+    public long update(long crc, BitMessage message, int fromByte, int toByte) {
+        long reg = crc << shift;
+        for (int j = fromByte; j < toByte; j++) {
+            reg = (reg << 8) ^ table[(int) ((reg >>> 56) ^ message.byteAt(j)) & 0xFF];
+        }
+        return reg >>> shift;
+    }
+
+    /**
+     * Continues a CRC over the bits after the last whole byte of the message.
+     */
+    public long updateTail(long crc, BitMessage message) {
+        int bits = message.length() & 7;
+        if (bits == 0) return crc;
+        return updateBits(crc, message.byteAt(message.fullBytes()) >>> (8 - bits), bits);
+    }
+
+    /**
+     * @return The remainder of the message (zero initial register, no augmentation).
+     */
+    public long remainder(BitMessage message) {
+        return update(0, message);
+    }
+
+    /**
+     * Runs over the message in chunks of {@link #PROGRESS_CHUNK_BYTES}, or byte by byte when recording the trace.
+     */
+    @Override
+    public BitMessage compute(BitMessage message, CrcTrace trace, LongConsumer progress) {
+        long crc = 0;
+        int bytes = message.fullBytes();
+        if (trace == null) {
+            for (int from = 0; from < bytes; from += PROGRESS_CHUNK_BYTES) {
+                int to = Math.min(bytes, from + PROGRESS_CHUNK_BYTES);
+                crc = update(crc, message, from, to);
+                if (progress != null) progress.accept(8L * to);
+            }
+            crc = updateTail(crc, message);
+        } else {
+            for (int j = 0; j < bytes; j++) {
+                int byteVal = message.byteAt(j);
+                int index = (int) (((crc << shift) >>> 56) ^ byteVal) & 0xFF;
+                crc = update(crc, byteVal);
+                trace.record(CrcTrace.BYTE_STEP, j + 1, byteVal, index, 0, crc);
+                if (progress != null && (j & (PROGRESS_CHUNK_BYTES - 1)) == 0) progress.accept(8L * j);
+            }
+            for (int k = bytes * 8; k < message.length(); k++) {
+                crc = updateBit(crc, message.get(k));
+                trace.record(CrcTrace.BIT_STEP, k - bytes * 8 + 1, message.get(k), k, 0, crc);
+            }
+        }
+        if (progress != null) progress.accept(message.length());
+        return BitMessage.of(crc, degree);
+    }
+
+    /**
+     * @return The remainder as a binary string padded to degree bits.
+     */
+    public String toBinary(long crc) {
+        String s = Long.toBinaryString(crc);
+        return "0".repeat(degree - s.length()) + s;
+    }
+}
@@ -0,0 +1,231 @@
+package Java.CNDC;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+
+/**
+ * Monte Carlo error injection: runs many independent trials of an error model against an n-bit codeword and counts
+ * the errors the CRC misses. CRC is linear, so a trial never builds or decodes a codeword: it XORs the syndrome
+ * contribution of each flipped bit (see {@link CrcSyndrome}) and the error is undetected when the sum is zero and
+ * at least one bit flipped. Contributions come from a table for codewords up to {@link #TABLE_BITS} bits and from
+ * {@link CrcCombine#xPow} above that. Trials are split across a fork/join pool; each leaf gets its own
+ * {@link SplittableRandom} split off its parent's, so a seed reproduces the run whatever the thread timing, and
+ * reuses one scratch bitset, so trials allocate nothing. Supports CRC-1 to CRC-64.
+ */
+public final class CrcMonteCarlo {
+    /** Longest codeword whose per-bit contributions are tabulated (8 MiB of table). */
+    public static final int TABLE_BITS = 1 << 20;
+    private static final long LEAF_TRIALS = 1 << 14;
+    private static final double Z95 = 1.959963984540054;
+
+    /**
+     * Channel error model.
+     */
+    public enum Model {
+        /** Exactly k distinct bits flipped, positions uniform. */
+        RANDOM_BITS,
+        /** A burst of exactly b bits: first and last flipped, the ones between random, start uniform. */
+        BURST,
+        /** Binary symmetric channel: every bit flips independently with probability p. */
+        BSC
+    }
+
+    /**
+     * Outcome of a run.
+     * @param erroneous Trials where at least one bit flipped.
+     * @param undetected Erroneous trials with a zero syndrome.
+     * @param low Lower end of the 95% Wilson interval for undetected / trials.
+     * @param high Upper end of that interval.
+     */
+    public record Result(long trials, long erroneous, long undetected, double low, double high) {
+        /**
+         * @return Undetected errors per trial.
+         */
+        public double rate() {
+            return trials == 0 ? 0 : (double) undetected / trials;
+        }
+
+        /**
+         * @return Undetected errors per erroneous trial, i.e. the miss probability given that the frame was hit.
+         */
+        public double missRate() {
+            return erroneous == 0 ? 0 : (double) undetected / erroneous;
+        }
+    }
+
+    private final CrcSyndrome syndrome;
+    private final long length;
+    private final long[] table;
+
+    /**
+     * @param polyLow The polynomial without its leading x^degree term, right-aligned.
+     * @param degree Degree of the polynomial, 1 to 64.
+     * @param length Codeword length in bits, data plus degree.
+     */
+    public CrcMonteCarlo(long polyLow, int degree, long length) {
+        if (length < 1) throw new IllegalArgumentException("Codeword length must be at least 1 bit");
+        this.syndrome = new CrcSyndrome(polyLow, degree);
+        this.length = length;
+        if (length <= TABLE_BITS) {
+            table = new long[(int) length];
+            long mask = CrcLongEngine.mask(degree);
+            long poly = polyLow & mask;
+            long c = syndrome.contribution(length, length - 1);
+            for (int i = (int) length - 1; i >= 0; i--) {
+                table[i] = c;
+                long top = (c >>> (degree - 1)) & 1;
+                c = (c << 1) & mask;
+                if (top != 0) c ^= poly;
+            }
+        } else {
+            table = null;
+        }
+    }
+
+    public static CrcMonteCarlo of(String polyBits, long length) {
+        return new CrcMonteCarlo(new BigInteger(polyBits, 2).longValue(), polyBits.length() - 1, length);
+    }
+
+    /**
+     * @param model Error model.
+     * @param parameter k for {@link Model#RANDOM_BITS}, b for {@link Model#BURST}, p for {@link Model#BSC}.
+     * @param trials Number of trials.
+     * @param seed Seed of the root generator.
+     * @param parallelism Worker threads.
+     * @param progress Receives the trials finished so far, or null; an exception it throws (e.g. a cancellation)
+     *                 stops the run and is rethrown.
+     */
+    public Result run(Model model, double parameter, long trials, long seed, int parallelism, LongConsumer progress) {
+        if (trials < 1) throw new IllegalArgumentException("Trials must be at least 1");
+        if (parallelism < 1) throw new IllegalArgumentException("Parallelism must be at least 1");
+        switch (model) {
+            case RANDOM_BITS, BURST -> {
+                if (parameter != Math.rint(parameter) || parameter < 1 || parameter > length) {
+                    throw new IllegalArgumentException((model == Model.BURST ? "Burst length" : "Bit count") + " must be a whole number between 1 and " + length);
+                }
+            }
+            case BSC -> {
+                if (!(parameter > 0 && parameter < 1)) throw new IllegalArgumentException("Bit error probability must be between 0 and 1 (exclusive)");
+            }
+        }
+        AtomicLong done = new AtomicLong();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        long[] counts;
+        try {
+            counts = pool.invoke(new Trials(model, parameter, trials, new SplittableRandom(seed), done, progress));
+        } finally {
+            pool.shutdown();
+        }
+        long undetected = counts[1];
+        double p = (double) undetected / trials;
+        double z2n = Z95 * Z95 / trials;
+        double center = (p + z2n / 2) / (1 + z2n);
+        double half = Z95 * Math.sqrt(p * (1 - p) / trials + z2n / (4.0 * trials)) / (1 + z2n);
+        return new Result(trials, counts[0], undetected, undetected == 0 ? 0 : Math.max(0, center - half), Math.min(1, center + half));
+    }
+
+    private long contribution(long position) {
+        return table != null ? table[(int) position] : syndrome.contribution(length, position);
+    }
+
+    /**
+     * Runs a share of the trials; returns {erroneous, undetected}.
+     */
+    private final class Trials extends RecursiveTask<long[]> {
+        private final Model model;
+        private final double parameter;
+        private final long count;
+        private final SplittableRandom random;
+        private final AtomicLong done;
+        private final LongConsumer progress;
+
+        Trials(Model model, double parameter, long count, SplittableRandom random, AtomicLong done, LongConsumer progress) {
+            this.model = model;
+            this.parameter = parameter;
+            this.count = count;
+            this.random = random;
+            this.done = done;
+            this.progress = progress;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (count > LEAF_TRIALS) {
+                long half = count / 2;
+                Trials right = new Trials(model, parameter, count - half, random.split(), done, progress);
+                right.fork();
+                long[] left = new Trials(model, parameter, half, random, done, progress).compute();
+                long[] r = right.join();
+                return new long[]{left[0] + r[0], left[1] + r[1]};
+            }
+            long erroneous = 0, undetected = 0;
+            int k = (int) parameter;
+            //Positions drawn in the current trial: an open-addressing set of at least 2k slots, -1 marking empty ones,
+            //and the slot of each draw so the set is emptied in O(k) whatever the codeword length
+            int setBits = model == Model.RANDOM_BITS ? 33 - Integer.numberOfLeadingZeros(Math.max(1, k - 1)) : 0;
+            long[] picked = null;
+            int[] slots = null;
+            if (model == Model.RANDOM_BITS) {
+                picked = new long[1 << setBits];
+                Arrays.fill(picked, -1);
+                slots = new int[k];
+            }
+            double logKeep = model == Model.BSC ? Math.log1p(-parameter) : 0;
+            for (long t = 0; t < count; t++) {
+                long s = 0;
+                boolean hit = true;
+                switch (model) {
+                    case RANDOM_BITS -> {
+                        int mask = picked.length - 1;
+                        for (int j = 0; j < k; j++) {
+                            long pos;
+                            int h;
+                            do {
+                                pos = random.nextLong(length);
+                                h = (int) ((pos * 0x9E3779B97F4A7C15L) >>> (64 - setBits));
+                                while (picked[h] != -1 && picked[h] != pos) h = (h + 1) & mask;
+                            } while (picked[h] == pos);
+                            picked[h] = pos;
+                            slots[j] = h;
+                            s ^= contribution(pos);
+                        }
+                        for (int j = 0; j < k; j++) picked[slots[j]] = -1;
+                    }
+                    case BURST -> {
+                        long start = random.nextLong(length - k + 1);
+                        s = contribution(start);
+                        if (k > 1) s ^= contribution(start + k - 1);
+                        long bits = 0;
+                        for (int j = 1; j < k - 1; j++) {
+                            if ((j & 63) == 1) bits = random.nextLong();
+                            if ((bits & 1) != 0) s ^= contribution(start + j);
+                            bits >>>= 1;
+                        }
+                    }
+                    case BSC -> {
+                        hit = false;
+                        long pos = -1;
+                        while (true) {
+                            pos += 1 + (long) Math.floor(Math.log(1 - random.nextDouble()) / logKeep);
+                            if (pos >= length || pos < 0) break;
+                            hit = true;
+                            s ^= contribution(pos);
+                        }
+                    }
+                }
+                if (hit) {
+                    erroneous++;
+                    if (s == 0) undetected++;
+                }
+            }
+            long total = done.addAndGet(count);
+            if (progress != null) progress.accept(total);
+            return new long[]{erroneous, undetected};
+        }
+    }
+}
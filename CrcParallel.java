@@ -0,0 +1,171 @@
+package Java.CNDC;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+
+/**
+ * Fork/join CRC for large inputs: the bytes are split into chunks whose CRCs are computed from 0 on separate
+ * workers, and the halves are merged with {@link CrcCombine}, so the result is bit-for-bit the sequential one.
+ * Chunks run on the slicing or single-table engine (MSB-first), or on {@link CrcReflectedEngine} for reflected models.
+ * Supports CRC-1 to CRC-64. The pool is owned by this object; close it when done.
+ */
+public final class CrcParallel implements CrcEngine {
+    /** Default chunk size: large enough that a combine is negligible next to hashing the chunk. */
+    public static final int DEFAULT_CHUNK_BYTES = 1 << 20;
+
+    private interface Chunk {
+        long crc(int from, int to);
+    }
+
+    private final CrcLongEngine single;
+    private final CrcSlicingEngine sliced;
+    private final CrcReflectedEngine reflected;
+    private final CrcCombine combine;
+    private final int chunkBytes;
+    private final ForkJoinPool pool;
+
+    /**
+     * @param polyLow The polynomial without its leading x^degree term, right-aligned.
+     * @param degree Degree of the polynomial, 1 to 64.
+     * @param slices Bytes per table step in each chunk: 1, 8 or 16 (ignored when reflected).
+     * @param reflected True to run LSB-first, with registers as {@link CrcReflectedEngine} keeps them.
+     * @param chunkBytes Bytes hashed by one task before it is merged, at least 1.
+     * @param parallelism Number of worker threads, at least 1.
+     */
+    public CrcParallel(long polyLow, int degree, int slices, boolean reflected, int chunkBytes, int parallelism) {
+        if (chunkBytes < 1) throw new IllegalArgumentException("Chunk size must be at least 1 byte");
+        if (parallelism < 1) throw new IllegalArgumentException("Parallelism must be at least 1");
+        this.single = new CrcLongEngine(polyLow, degree);
+        this.sliced = !reflected && slices > 1 ? new CrcSlicingEngine(polyLow, degree, slices) : null;
+        this.reflected = reflected ? new CrcReflectedEngine(polyLow, degree) : null;
+        this.combine = new CrcCombine(polyLow, degree);
+        this.chunkBytes = chunkBytes;
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    /**
+     * @param poly Full polynomial with the leading 1 set, as used by the GUIs.
+     * @param width Length of the polynomial bit string, degree = width - 1.
+     */
+    public static CrcParallel of(BigInteger poly, int width, int slices, int chunkBytes, int parallelism) {
+        return new CrcParallel(poly.longValue(), width - 1, slices, false, chunkBytes, parallelism);
+    }
+
+    /**
+     * @param polyBits Polynomial bit string with the leading 1 written down.
+     */
+    public static CrcParallel of(String polyBits, int slices, int chunkBytes, int parallelism) {
+        return of(new BigInteger(polyBits, 2), polyBits.length(), slices, chunkBytes, parallelism);
+    }
+
+    @Override
+    public String name() {
+        return String.format("fork/join %s, %d threads, %d KiB chunks", sliced != null ? "slicing-by-" + sliced.slices() : "Sarwate table",
+                parallelism(), chunkBytes >> 10);
+    }
+
+    @Override
+    public int degree() {
+        return single.degree();
+    }
+
+    public int chunkBytes() {
+        return chunkBytes;
+    }
+
+    public int parallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Continues a CRC over whole bytes.
+     * @param crc The register from a previous call or the initial register, in the engine's domain.
+     */
+    public long update(long crc, byte[] bytes, int off, int len) {
+        return run(crc, len, (from, to) -> reflected != null ? reflected.update(0, bytes, off + from, to - from)
+                : sliced != null ? sliced.update(0, bytes, off + from, to - from) : single.update(0, bytes, off + from, to - from), null);
+    }
+
+    /**
+     * Continues a CRC over the remaining bytes of the buffer, advancing its position.
+     */
+    public long update(long crc, ByteBuffer buf) {
+        int base = buf.position();
+        int len = buf.remaining();
+        crc = run(crc, len, (from, to) -> {
+            ByteBuffer part = buf.slice(base + from, to - from);
+            return reflected != null ? reflected.update(0, part) : sliced != null ? sliced.update(0, part) : single.update(0, part);
+        }, null);
+        buf.position(base + len);
+        return crc;
+    }
+
+    /**
+     * Remainder of a packed message: whole bytes in parallel, the bit tail afterwards.
+     * @param progress Receives the total bytes hashed so far from the worker threads, or null. An exception it
+     *                 throws (e.g. a cancellation) stops the run and is rethrown here.
+     */
+    public long remainder(BitMessage message, LongConsumer progress) {
+        if (reflected != null) throw new IllegalArgumentException("Packed bit messages are MSB-first; use bytes for reflected CRCs");
+        long crc = run(0, message.fullBytes(), (from, to) -> sliced != null ? sliced.update(0, message, from, to)
+                : single.update(0, message, from, to), progress);
+        return single.updateTail(crc, message);
+    }
+
+    /**
+     * {@link #remainder(BitMessage, LongConsumer)} with progress in bits; the trace is not recorded.
+     */
+    @Override
+    public BitMessage compute(BitMessage message, CrcTrace trace, LongConsumer progress) {
+        long crc = remainder(message, progress == null ? null : bytes -> progress.accept(8 * bytes));
+        if (progress != null) progress.accept(message.length());
+        return BitMessage.of(crc, degree());
+    }
+
+    private long run(long crc, int length, Chunk chunk, LongConsumer progress) {
+        if (length == 0) return crc;
+        long body = pool.invoke(new Piece(chunk, 0, length, new AtomicLong(), progress));
+        return reflected != null ? combine.combineReflected(crc, body, 8L * length) : combine.combine(crc, body, 8L * length);
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    private final class Piece extends RecursiveTask<Long> {
+        private final Chunk chunk;
+        private final int from;
+        private final int to;
+        private final AtomicLong done;
+        private final LongConsumer progress;
+
+        Piece(Chunk chunk, int from, int to, AtomicLong done, LongConsumer progress) {
+            this.chunk = chunk;
+            this.from = from;
+            this.to = to;
+            this.done = done;
+            this.progress = progress;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from <= chunkBytes) {
+                long crc = chunk.crc(from, to);
+                long total = done.addAndGet(to - from);
+                if (progress != null) progress.accept(total);
+                return crc;
+            }
+            int mid = from + (to - from) / 2;
+            Piece left = new Piece(chunk, from, mid, done, progress);
+            left.fork();
+            long right = new Piece(chunk, mid, to, done, progress).compute();
+            long crc = left.join();
+            return reflected != null ? combine.combineReflected(crc, right, 8L * (to - mid)) : combine.combine(crc, right, 8L * (to - mid));
+        }
+    }
+}
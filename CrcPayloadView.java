@@ -0,0 +1,206 @@
+package Java.CNDC;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import java.awt.*;
+
+/**
+ * Paged viewer for a message or codeword of any length, backed by the packed {@link BitMessage} itself.
+ * Like {@link CrcTraceView}, the JTable only asks for the rows in view, so a million-bit codeword costs a screenful of
+ * formatting instead of one Swing text layout over the whole '0'/'1' string. Rows show the bits in binary or hex,
+ * grouped, with the check bits in blue and the bits that differ from a reference (flipped or corrected) in red.
+ */
+final class CrcPayloadView extends JPanel {
+    private static final String[] COLUMNS = {"Bit offset", "Data"};
+    private static final Integer[] GROUPS = {4, 8, 16, 32, 64};
+    private static final int PLAIN = 0, CHECK = 1, FLIPPED = 2;
+    private static final String[] OPEN = {"", "<font color=blue>", "<b><font color=red>"};
+    private static final String[] CLOSE = {"", "</font>", "</font></b>"};
+
+    private final PayloadModel model = new PayloadModel();
+    private final JTable table = new JTable(model);
+    private final JLabel summary = new JLabel("Nothing to show.");
+    private final JComboBox<String> formatCombo = new JComboBox<>(new String[]{"Binary", "Hex"});
+    private final JComboBox<Integer> groupCombo = new JComboBox<>(GROUPS);
+    private final JTextField offsetField = new JTextField(10);
+
+    CrcPayloadView() {
+        super(new BorderLayout(4, 4));
+        table.setFont(new Font(Font.MONOSPACED, Font.PLAIN, table.getFont().getSize()));
+        table.setAutoResizeMode(JTable.AUTO_RESIZE_LAST_COLUMN);
+        table.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        table.getColumnModel().getColumn(0).setPreferredWidth(90);
+        table.getColumnModel().getColumn(1).setPreferredWidth(600);
+        groupCombo.setSelectedItem(8);
+
+        JPanel controls = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        controls.add(new JLabel("Show as:"));
+        controls.add(formatCombo);
+        controls.add(new JLabel("Group bits:"));
+        controls.add(groupCombo);
+        controls.add(new JLabel("Go to bit:"));
+        controls.add(offsetField);
+        JButton goBtn = new JButton("Go");
+        controls.add(goBtn);
+        JButton nextBtn = new JButton("Next Flipped");
+        controls.add(nextBtn);
+        nextBtn.setToolTipText("Selects the next row with a bit that differs from the reference");
+
+        JPanel north = new JPanel(new GridLayout(2, 1));
+        north.add(summary);
+        north.add(controls);
+        add(north, BorderLayout.NORTH);
+        add(new JScrollPane(table), BorderLayout.CENTER);
+
+        formatCombo.addActionListener(e -> {
+            long bit = (long) Math.max(table.getSelectedRow(), 0) * model.bitsPerRow;
+            model.hex = formatCombo.getSelectedIndex() == 1;
+            model.bitsPerRow = model.hex ? 256 : 64;
+            model.fireTableDataChanged();
+            if (model.payload != null && model.payload.length() > 0) select(bit);
+        });
+        groupCombo.addActionListener(e -> {
+            model.group = (Integer) groupCombo.getSelectedItem();
+            model.fireTableRowsUpdated(0, Math.max(model.getRowCount() - 1, 0));
+        });
+        goBtn.addActionListener(e -> jump());
+        offsetField.addActionListener(e -> jump());
+        nextBtn.addActionListener(e -> nextFlipped());
+    }
+
+    /**
+     * Shows a payload; call on the event dispatch thread.
+     * @param title What is shown, e.g. "Codeword".
+     * @param payload The bits, or null to clear the view.
+     * @param checkBits Number of trailing check bits to mark, 0 for none.
+     * @param reference Message of the same length whose differing bits are highlighted, or null.
+     */
+    void show(String title, BitMessage payload, int checkBits, BitMessage reference) {
+        model.payload = payload;
+        model.checkBits = payload == null ? 0 : Math.min(Math.max(checkBits, 0), payload.length());
+        model.reference = reference != null && payload != null && reference.length() == payload.length() ? reference : null;
+        model.fireTableDataChanged();
+        if (payload == null) {
+            summary.setText("Nothing to show.");
+            return;
+        }
+        String text = String.format("%s: %,d bits (%,d bytes%s)", title, payload.length(), payload.fullBytes(),
+                payload.length() % 8 != 0 ? " + " + payload.length() % 8 + " bits" : "");
+        if (model.checkBits > 0) text += String.format(", last %d are check bits", model.checkBits);
+        if (model.reference != null) text += String.format(", %,d flipped", differences(payload, model.reference));
+        summary.setText(text + ".");
+    }
+
+    private void jump() {
+        if (model.payload == null) return;
+        long bit;
+        try {
+            bit = Long.parseLong(offsetField.getText().trim().replace(",", ""));
+        } catch (NumberFormatException ex) {
+            JOptionPane.showMessageDialog(this, "Invalid bit offset.", "Error", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+        if (bit < 0 || bit >= model.payload.length()) {
+            JOptionPane.showMessageDialog(this, "Bit offset must be between 0 and " + (model.payload.length() - 1) + ".", "Error", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+        select(bit);
+    }
+
+    private void nextFlipped() {
+        if (model.reference == null) return;
+        long from = table.getSelectedRow() < 0 ? 0 : (long) (table.getSelectedRow() + 1) * model.bitsPerRow;
+        long bit = nextDifference(model.payload, model.reference, from, model.payload.length());
+        if (bit < 0) bit = nextDifference(model.payload, model.reference, 0, from); //wrap around
+        if (bit >= 0) select(bit);
+    }
+
+    private void select(long bit) {
+        int row = (int) (bit / model.bitsPerRow);
+        table.changeSelection(row, 1, false, false);
+    }
+
+    /**
+     * @return The first bit in [from, to) where a and b differ, or -1; whole words are compared at a time.
+     */
+    static long nextDifference(BitMessage a, BitMessage b, long from, long to) {
+        if (from >= to) return -1;
+        for (int i = (int) (from >>> 6); i <= (to - 1) >>> 6; i++) {
+            long diff = a.wordAt(i) ^ b.wordAt(i);
+            if (i == from >>> 6) diff &= -1L >>> (from & 63);
+            if (diff != 0) {
+                long bit = ((long) i << 6) + Long.numberOfLeadingZeros(diff);
+                return bit < to ? bit : -1;
+            }
+        }
+        return -1;
+    }
+
+    private static long differences(BitMessage a, BitMessage b) {
+        long count = 0;
+        int words = (a.length() + 63) >>> 6;
+        for (int i = 0; i < words; i++) count += Long.bitCount(a.wordAt(i) ^ b.wordAt(i));
+        return count;
+    }
+
+    private static final class PayloadModel extends AbstractTableModel {
+        private BitMessage payload;
+        private BitMessage reference;
+        private int checkBits;
+        private boolean hex;
+        private int bitsPerRow = 64;
+        private int group = 8;
+
+        @Override
+        public int getRowCount() {
+            return payload == null ? 0 : (int) ((payload.length() + (long) bitsPerRow - 1) / bitsPerRow);
+        }
+
+        @Override
+        public int getColumnCount() {
+            return COLUMNS.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return COLUMNS[column];
+        }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            int from = row * bitsPerRow;
+            if (column == 0) return String.format("%,d", from);
+            int to = Math.min(from + bitsPerRow, payload.length());
+            int checkFrom = payload.length() - checkBits;
+            boolean plain = to <= checkFrom && (reference == null || nextDifference(payload, reference, from, to) < 0);
+            StringBuilder sb = new StringBuilder(plain ? 96 : 512);
+            if (!plain) sb.append("<html>");
+            int step = hex ? 4 : 1;
+            int style = PLAIN;
+            for (int i = from; i < to; i += step) {
+                int end = Math.min(i + step, to);
+                int next = PLAIN;
+                if (!plain) {
+                    for (int j = i; j < end && reference != null; j++) if (payload.get(j) != reference.get(j)) next = FLIPPED;
+                    if (next == PLAIN && end > checkFrom) next = CHECK;
+                }
+                if (i > from && (i - from) % group == 0) sb.append(plain ? " " : "&nbsp;");
+                if (next != style) {
+                    sb.append(CLOSE[style]).append(OPEN[next]);
+                    style = next;
+                }
+                if (end - i == 4) {
+                    int v = 0;
+                    for (int j = i; j < end; j++) v = v << 1 | payload.get(j);
+                    sb.append(Character.toUpperCase(Character.forDigit(v, 16)));
+                } else if (step == 4) {
+                    sb.append(payload.toBinaryString(i, end)).append('b'); //the last bits do not fill a hex digit
+                } else {
+                    sb.append(payload.get(i) == 1 ? '1' : '0');
+                }
+            }
+            sb.append(CLOSE[style]);
+            return sb.toString();
+        }
+    }
+}
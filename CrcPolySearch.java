@@ -0,0 +1,500 @@
+package Java.CNDC;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+
+/**
+ * Koopman-style search for the best generator polynomials of a degree at a target data length, over every polynomial
+ * with a constant term (or a seeded random sample of them when the space is too large). Candidates are ranked by
+ * Hamming distance at that length, then by the number of undetectable patterns at that weight, fewest first.
+ * <p>
+ * A polynomial and its reciprocal detect the same patterns, so only the smaller of each pair is evaluated: an
+ * exhaustive sweep skips the larger, a random draw is replaced by the smaller so every sample counts. The
+ * constant term makes x invertible, so every undetectable pattern can be shifted to start at bit 0: with syndromes
+ * s_i = x^i mod P, weight 2 is s_a = 1, weight 3 is s_a = 1 ^ s_b, weight 4 is s_a = 1 ^ s_b ^ s_c and weight 5 is
+ * s_a = 1 ^ s_b ^ s_c ^ s_d, each found with one lookup in a syndrome-to-position table, so a candidate costs O(n^2)
+ * time up to weight 4, O(n^3) for the few that get past it, and O(n) memory for codeword length n. Counting stops at
+ * the first pattern of a weight below the current top list's worst HD, or once the count passes its pattern count,
+ * so most candidates are dropped within a few positions. HD is resolved up to {@link #MAX_HD}, one more than
+ * {@link CrcHdProfile}, so HD 5 polynomials are still ranked by their weight-5 patterns; when the whole ranking
+ * reaches the cap its order is only by value, which {@link #saturated()} reports.
+ * <p>
+ * The index space is processed in rounds on a fork/join pool; after each round the position and the top list are
+ * written to the checkpoint file, so an interrupted sweep resumes where the last round ended.
+ * <pre>
+ * java Java.CNDC.CrcPolySearch --degree 16 --data-bits 1024 [--samples 0] [--keep 20] [--threads 8] [--checkpoint crc16.ckpt]
+ * </pre>
+ */
+public final class CrcPolySearch {
+    /** Highest Hamming distance resolved; candidates without a pattern of weight 5 or less rank as this. */
+    public static final int MAX_HD = 6;
+    /** Largest degree searched exhaustively; above it only sampling is practical. */
+    public static final int MAX_EXHAUSTIVE_DEGREE = 32;
+    private static final int LEAF_CANDIDATES = 1 << 10;
+    private static final int LEAVES_PER_ROUND = 8;
+    private static final long PRUNE_WEIGHT = (1L << 60) - 1;
+
+    private static final String USAGE = String.join("\n",
+            "Usage: CrcPolySearch --degree <3-64> --data-bits <n> [options]",
+            "  --degree      CRC width, e.g. 16 for CRC-16",
+            "  --data-bits   data word length the HD is measured at",
+            "  --samples     random candidates to try; 0 (default) tries every one, up to CRC-" + MAX_EXHAUSTIVE_DEGREE,
+            "  --seed        seed for --samples (default 1)",
+            "  --keep        size of the ranking (default 20)",
+            "  --threads     worker threads (default all processors)",
+            "  --checkpoint  file to save progress to after every round and resume from");
+
+    /**
+     * One evaluated polynomial.
+     * @param polyLow The polynomial without its leading x^degree term, right-aligned.
+     * @param hd Hamming distance at the searched length, {@link #MAX_HD} meaning at least that.
+     * @param weight Undetectable patterns of weight hd in the codeword, 0 when hd is {@link #MAX_HD}.
+     */
+    public record Candidate(long polyLow, int degree, int hd, long weight) implements Comparable<Candidate> {
+        /**
+         * @return The polynomial as a bit string with the leading 1, as the simulators take it.
+         */
+        public String bits() {
+            String low = Long.toBinaryString(polyLow);
+            return "1" + "0".repeat(degree - low.length()) + low;
+        }
+
+        /**
+         * @return Koopman's notation: the full polynomial shifted right by one, dropping the implied +1.
+         */
+        public long koopman() {
+            return (polyLow >>> 1) | (1L << (degree - 1));
+        }
+
+        /**
+         * @return Higher HD first, then fewer undetectable patterns, then the smaller polynomial.
+         */
+        @Override
+        public int compareTo(Candidate o) {
+            if (hd != o.hd) return Integer.compare(o.hd, hd);
+            if (weight != o.weight) return Long.compare(weight, o.weight);
+            return Long.compareUnsigned(polyLow, o.polyLow);
+        }
+
+        @Override
+        public String toString() {
+            String head = String.format("0x%0" + (degree + 3) / 4 + "X (Koopman 0x%X)", polyLow, koopman());
+            return hd == MAX_HD ? head + " HD " + MAX_HD + "+" : String.format("%s HD %d, %,d patterns of weight %d", head, hd, weight, hd);
+        }
+    }
+
+    private final int degree;
+    private final int dataBits;
+    private final long samples;
+    private final long seed;
+    private final int keep;
+    private final List<Candidate> best = new ArrayList<>();
+    private volatile long prune = PRUNE_WEIGHT; //worst HD in a full ranking above its pattern count, read by leaves in one go
+    private long next;
+
+    /**
+     * @param degree Degree of the polynomials, 3 to 64.
+     * @param dataBits Data word length to rank at; the codeword adds degree bits.
+     * @param samples Random candidates to evaluate, or 0 for all of them (degree up to {@link #MAX_EXHAUSTIVE_DEGREE}).
+     * @param seed Seed of the sample; the same seed draws the same candidates.
+     * @param keep Length of the ranking.
+     */
+    public CrcPolySearch(int degree, int dataBits, long samples, long seed, int keep) {
+        if (degree < 3 || degree > 64) throw new IllegalArgumentException("Polynomial search supports CRC-3 to CRC-64, got CRC-" + degree);
+        if (dataBits < 1 || dataBits + degree > CrcHdProfile.MAX_CODEWORD_BITS) {
+            throw new IllegalArgumentException("Data length must be between 1 and " + (CrcHdProfile.MAX_CODEWORD_BITS - degree) + " bits for CRC-" + degree);
+        }
+        if (samples < 0) throw new IllegalArgumentException("Sample count must not be negative");
+        if (samples == 0 && degree > MAX_EXHAUSTIVE_DEGREE) {
+            throw new IllegalArgumentException("Above CRC-" + MAX_EXHAUSTIVE_DEGREE + " there are too many polynomials to try them all; give a sample count");
+        }
+        if (keep < 1) throw new IllegalArgumentException("The ranking must keep at least 1 polynomial");
+        this.degree = degree;
+        this.dataBits = dataBits;
+        this.samples = samples;
+        this.seed = seed;
+        this.keep = keep;
+    }
+
+    /**
+     * @return Candidate indices in the search; in an exhaustive one about half are reciprocals of others and skipped.
+     */
+    public long total() {
+        return samples > 0 ? samples : 1L << (degree - 1);
+    }
+
+    /**
+     * @return Candidate indices done so far, including those restored from a checkpoint.
+     */
+    public long next() {
+        return next;
+    }
+
+    /**
+     * @return The ranking so far, best first.
+     */
+    public synchronized List<Candidate> best() {
+        return List.copyOf(best);
+    }
+
+    /**
+     * @return True if the ranking is full and every entry is at {@link #MAX_HD}, so the ranking cannot tell them
+     * apart and lists them by polynomial value; a longer data word separates them again.
+     */
+    public synchronized boolean saturated() {
+        return best.size() == keep && best.get(keep - 1).hd() == MAX_HD;
+    }
+
+    /**
+     * Continues from a checkpoint written by an earlier run with the same parameters, if the file exists.
+     * @return True if progress was restored.
+     * @throws IllegalArgumentException if the checkpoint belongs to a different search.
+     */
+    public synchronized boolean restore(Path checkpoint) throws IOException {
+        if (!Files.exists(checkpoint)) return false;
+        Properties p = new Properties();
+        try (Reader in = Files.newBufferedReader(checkpoint)) {
+            p.load(in);
+        }
+        String expected = describe();
+        if (!expected.equals(p.getProperty("search"))) {
+            throw new IllegalArgumentException("Checkpoint " + checkpoint.getFileName() + " is for " + p.getProperty("search") + ", not " + expected);
+        }
+        try {
+            next = Long.parseLong(p.getProperty("next"));
+            best.clear();
+            for (int i = 0; p.getProperty("best." + i) != null; i++) {
+                String[] f = p.getProperty("best." + i).split(",");
+                Candidate c = new Candidate(Long.parseUnsignedLong(f[0], 16), degree, Integer.parseInt(f[1]), Long.parseLong(f[2]));
+                if (c.hd() < MAX_HD && c.weight() == 0) throw new IllegalArgumentException("HD " + c.hd() + " without a pattern count, from a version resolving fewer weights");
+                offer(c);
+            }
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("Checkpoint " + checkpoint.getFileName() + " is damaged: " + ex.getMessage(), ex);
+        }
+        return true;
+    }
+
+    /**
+     * Writes the position and ranking to a temporary file and renames it over the checkpoint, so a crash mid-write
+     * leaves the previous checkpoint intact.
+     */
+    public synchronized void save(Path checkpoint) throws IOException {
+        Properties p = new Properties();
+        p.setProperty("search", describe());
+        p.setProperty("next", Long.toString(next));
+        for (int i = 0; i < best.size(); i++) {
+            Candidate c = best.get(i);
+            p.setProperty("best." + i, Long.toHexString(c.polyLow()) + "," + c.hd() + "," + c.weight());
+        }
+        Path tmp = checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp");
+        try (Writer out = Files.newBufferedWriter(tmp)) {
+            p.store(out, "CrcPolySearch checkpoint");
+        }
+        Files.move(tmp, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private String describe() {
+        return String.format("CRC-%d at %d data bits, %s", degree, dataBits, samples == 0 ? "all polynomials" : samples + " samples of seed " + seed);
+    }
+
+    /**
+     * Runs the remaining candidates.
+     * @param parallelism Worker threads.
+     * @param checkpoint File to save to after every round, or null.
+     * @param progress Receives the candidate indices done so far, or null; an exception it throws (e.g. a
+     *                 cancellation) stops the search and is rethrown, leaving the last checkpoint in place.
+     */
+    public void run(int parallelism, Path checkpoint, LongConsumer progress) throws IOException {
+        if (parallelism < 1) throw new IllegalArgumentException("Parallelism must be at least 1");
+        long total = total();
+        long round = (long) LEAF_CANDIDATES * LEAVES_PER_ROUND * parallelism;
+        AtomicLong done = new AtomicLong(next);
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            while (next < total) {
+                long end = Math.min(total, next + round);
+                pool.invoke(new Range(next, end, done, progress));
+                synchronized (this) {
+                    next = end;
+                }
+                if (checkpoint != null) save(checkpoint);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * @return The polynomial at a candidate index: the index itself in an exhaustive search, a hash of it otherwise,
+     * so a checkpoint only needs the next index to resume either kind.
+     */
+    private long candidate(long index) {
+        long mask = CrcLongEngine.mask(degree);
+        if (samples == 0) return (index << 1 | 1) & mask;
+        long z = seed + index * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return ((z ^ (z >>> 31)) | 1) & mask;
+    }
+
+    /**
+     * @return The low part of x^degree * P(1/x), which has the same Hamming distances as P.
+     */
+    static long reciprocal(long polyLow, int degree) {
+        return Long.reverse(polyLow >>> 1) >>> (64 - (degree - 1)) << 1 | 1;
+    }
+
+    private synchronized void offer(Candidate c) {
+        for (Candidate b : best) if (b.polyLow() == c.polyLow()) return;
+        best.add(c);
+        best.sort(null);
+        if (best.size() > keep) best.remove(best.size() - 1);
+        if (best.size() == keep) {
+            Candidate worst = best.get(keep - 1);
+            prune = (long) worst.hd() << 60 | Math.min(worst.weight(), PRUNE_WEIGHT);
+        }
+    }
+
+    /**
+     * Evaluates one polynomial without pruning.
+     * @param polyLow The polynomial without its leading x^degree term; the constant term must be set.
+     */
+    public static Candidate evaluate(long polyLow, int degree, int dataBits) {
+        if ((polyLow & 1) == 0) throw new IllegalArgumentException("The polynomial must have a constant term");
+        return evaluate(polyLow, degree, dataBits, 0, Long.MAX_VALUE, new Scratch(dataBits + degree));
+    }
+
+    /**
+     * @return The candidate, or null as soon as it cannot reach minHd with at most maxWeight patterns at that weight.
+     */
+    private static Candidate evaluate(long polyLow, int degree, int dataBits, int minHd, long maxWeight, Scratch scratch) {
+        int n = dataBits + degree;
+        long[] syn = scratch.syn;
+        long mask = CrcLongEngine.mask(degree);
+        syn[0] = 1;
+        long count = 0;
+        for (int i = 1; i < n; i++) {
+            long s = syn[i - 1];
+            long top = (s >>> (degree - 1)) & 1;
+            s = (s << 1) & mask;
+            syn[i] = top != 0 ? s ^ polyLow : s;
+            if (syn[i] == 1) {
+                count += n - i; //{0, i} and its shifts
+                if (2 < minHd || (2 == minHd && count > maxWeight)) return null;
+            }
+        }
+        if (count > 0) return new Candidate(polyLow, degree, 2, count);
+
+        //No weight 2, so the syndromes are distinct and the table maps each back to its position
+        scratch.index(n);
+        for (int b = 2; b < n; b++) {
+            int a = scratch.positionOf(syn[b] ^ 1);
+            if (a > 0 && a < b) {
+                count += n - b; //{0, a, b}
+                if (3 < minHd || (3 == minHd && count > maxWeight)) return null;
+            }
+        }
+        if (count > 0) return new Candidate(polyLow, degree, 3, count);
+
+        for (int c = 3; c < n; c++) {
+            long sc = syn[c] ^ 1;
+            for (int b = 2; b < c; b++) {
+                int a = scratch.positionOf(sc ^ syn[b]);
+                if (a > 0 && a < b) {
+                    count += n - c; //{0, a, b, c}
+                    if (4 < minHd || (4 == minHd && count > maxWeight)) return null;
+                }
+            }
+        }
+        if (count > 0) return new Candidate(polyLow, degree, 4, count);
+
+        for (int d = 4; d < n; d++) {
+            long sd = syn[d] ^ 1;
+            for (int c = 3; c < d; c++) {
+                long sc = sd ^ syn[c];
+                for (int b = 2; b < c; b++) {
+                    int a = scratch.positionOf(sc ^ syn[b]);
+                    if (a > 0 && a < b) {
+                        count += n - d; //{0, a, b, c, d}
+                        if (5 < minHd || (5 == minHd && count > maxWeight)) return null;
+                    }
+                }
+            }
+        }
+        if (count > 0) return new Candidate(polyLow, degree, 5, count);
+        return new Candidate(polyLow, degree, MAX_HD, 0);
+    }
+
+    /**
+     * Per-leaf buffers: the syndromes and an open-addressing table from syndrome to position.
+     * Syndromes of a polynomial with a constant term are never zero, so zero marks an empty slot.
+     */
+    private static final class Scratch {
+        final long[] syn;
+        private final long[] keys;
+        private final int[] positions;
+        private final int shift;
+
+        Scratch(int n) {
+            syn = new long[n];
+            int bits = 32 - Integer.numberOfLeadingZeros(2 * n - 1);
+            keys = new long[1 << bits];
+            positions = new int[1 << bits];
+            shift = 64 - bits;
+        }
+
+        void index(int n) {
+            Arrays.fill(keys, 0);
+            int mask = keys.length - 1;
+            for (int i = 0; i < n; i++) {
+                int h = (int) ((syn[i] * 0x9E3779B97F4A7C15L) >>> shift);
+                while (keys[h] != 0) h = (h + 1) & mask;
+                keys[h] = syn[i];
+                positions[h] = i;
+            }
+        }
+
+        int positionOf(long s) {
+            int mask = keys.length - 1;
+            int h = (int) ((s * 0x9E3779B97F4A7C15L) >>> shift);
+            while (keys[h] != 0) {
+                if (keys[h] == s) return positions[h];
+                h = (h + 1) & mask;
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Splits a range of candidate indices down to leaves of {@link #LEAF_CANDIDATES}.
+     */
+    private final class Range extends RecursiveAction {
+        private final long from;
+        private final long to;
+        private final AtomicLong done;
+        private final LongConsumer progress;
+
+        Range(long from, long to, AtomicLong done, LongConsumer progress) {
+            this.from = from;
+            this.to = to;
+            this.done = done;
+            this.progress = progress;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > LEAF_CANDIDATES) {
+                long mid = from + (to - from) / 2;
+                invokeAll(new Range(from, mid, done, progress), new Range(mid, to, done, progress));
+                return;
+            }
+            Scratch scratch = new Scratch(dataBits + degree);
+            for (long i = from; i < to; i++) {
+                long poly = candidate(i);
+                long rev = reciprocal(poly, degree);
+                if (Long.compareUnsigned(poly, rev) > 0) {
+                    if (samples == 0) continue;
+                    poly = rev;
+                }
+                long limit = prune;
+                Candidate c = evaluate(poly, degree, dataBits, (int) (limit >>> 60), limit & PRUNE_WEIGHT, scratch);
+                if (c != null) offer(c);
+            }
+            long d = done.addAndGet(to - from);
+            if (progress != null) progress.accept(d);
+        }
+    }
+
+    public static void main(String[] args) {
+        try {
+            System.exit(run(args));
+        } catch (IllegalArgumentException ex) {
+            System.err.println("Error: " + ex.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+        } catch (IOException ex) {
+            System.err.println("I/O error: " + ex.getMessage());
+            System.exit(2);
+        }
+    }
+
+    static int run(String[] args) throws IOException {
+        int degree = 0;
+        int dataBits = 0;
+        long samples = 0;
+        long seed = 1;
+        int keep = 20;
+        int threads = Runtime.getRuntime().availableProcessors();
+        Path checkpoint = null;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--degree" -> degree = (int) parseLong(args[i], value(args, ++i));
+                case "--data-bits" -> dataBits = (int) parseLong(args[i], value(args, ++i));
+                case "--samples" -> samples = parseLong(args[i], value(args, ++i));
+                case "--seed" -> seed = parseLong(args[i], value(args, ++i));
+                case "--keep" -> keep = (int) parseLong(args[i], value(args, ++i));
+                case "--threads" -> threads = (int) parseLong(args[i], value(args, ++i));
+                case "--checkpoint" -> checkpoint = Paths.get(value(args, ++i));
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        if (degree == 0 || dataBits == 0) throw new IllegalArgumentException("--degree and --data-bits are required.");
+        CrcPolySearch search = new CrcPolySearch(degree, dataBits, samples, seed, keep);
+        if (checkpoint != null && search.restore(checkpoint)) {
+            System.err.printf(Locale.ROOT, "Resuming at %,d of %,d from %s%n", search.next(), search.total(), checkpoint);
+        }
+        long start = System.nanoTime();
+        long resumedAt = search.next();
+        long[] lastReport = {start};
+        search.run(threads, checkpoint, done -> {
+            long now = System.nanoTime();
+            synchronized (lastReport) {
+                if (now - lastReport[0] < 1_000_000_000L) return;
+                lastReport[0] = now;
+            }
+            List<Candidate> top = search.best();
+            System.err.printf(Locale.ROOT, "%,d of %,d (%.1f%%), %,.0f/s, best: %s%n", done, search.total(), 100.0 * done / search.total(),
+                    (done - resumedAt) / ((now - start) / 1e9), top.isEmpty() ? "-" : top.get(0));
+        });
+        System.out.printf(Locale.ROOT, "CRC-%d at %,d data bits: %,d candidates in %.1f s on %d threads%n", degree, dataBits,
+                search.total() - resumedAt, (System.nanoTime() - start) / 1e9, threads);
+        List<Candidate> top = search.best();
+        for (int i = 0; i < top.size(); i++) {
+            Candidate c = top.get(i);
+            System.out.printf("%3d. %s  %s%n", i + 1, c.bits(), c);
+        }
+        if (search.saturated()) {
+            System.err.printf("Warning: all %d kept polynomials reach HD %d+, so they are listed by value; rank at more --data-bits to separate them%n",
+                    top.size(), MAX_HD);
+        }
+        return 0;
+    }
+
+    private static String value(String[] args, int i) {
+        if (i >= args.length) throw new IllegalArgumentException("Missing value for " + args[i - 1]);
+        return args[i];
+    }
+
+    private static long parseLong(String option, String s) {
+        try {
+            return Long.parseLong(s);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid number for " + option + ": " + s);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package Java.CNDC;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Table-driven LSB-first (reflected) CRC engine for polynomial degrees 1 to 64.
+ * The register and table hold bit-reversed values, so input bytes are used as they are and no per-byte reversal is
+ * needed: each byte costs one lookup, a shift and two XORs, the same as the MSB-first {@link CrcLongEngine}.
+ * Registers passed in and out are in the reflected domain; {@link predefinedCRC#finish} maps them to the checksum.
+ */
+public final class CrcReflectedEngine {
+    private final int degree;
+    private final long reversedPoly;
+    private final long[] table;
+
+    /**
+     * @param polyLow The (normal, not reflected) polynomial without its leading x^degree term.
+     * @param degree Degree of the polynomial (width - 1), between 1 and 64.
+     */
+    public CrcReflectedEngine(long polyLow, int degree) {
+        if (degree < 1 || degree > 64) {
+            throw new IllegalArgumentException("Reflected engine supports CRC-1 to CRC-64, got CRC-" + degree);
+        }
+        this.degree = degree;
+        this.reversedPoly = reflect(polyLow & CrcLongEngine.mask(degree), degree);
+        this.table = CrcTableCache.tables(polyLow, degree, CrcTableCache.Variant.REFLECTED)[0];
+    }
+
+    public int degree() {
+        return degree;
+    }
+
+    /**
+     * @return The low bits bits of value in reverse order.
+     */
+    public static long reflect(long value, int bits) {
+        return Long.reverse(value) >>> (64 - bits);
+    }
+
+    /**
+     * Builds the reflected 256-entry table: entry i is byte i shifted through 8 LSB-first steps with the reversed poly.
+     */
+    static long[] buildTable(long polyLow, int degree) {
+        long reversedPoly = reflect(polyLow & CrcLongEngine.mask(degree), degree);
+        long[] table = new long[256];
+        for (int i = 0; i < 256; i++) {
+            long crc = i;
+            for (int j = 0; j < 8; j++) {
+                crc = (crc & 1) != 0 ? (crc >>> 1) ^ reversedPoly : crc >>> 1;
+            }
+            table[i] = crc;
+        }
+        return table;
+    }
+
+    /**
+     * Continues a reflected CRC over whole bytes.
+     * @param crc The reflected register from a previous call, or the model's initial register.
+     */
+    public long update(long crc, byte[] bytes, int off, int len) {
+        for (int i = off, end = off + len; i < end; i++) {
+            crc = (crc >>> 8) ^ table[(int) (crc ^ bytes[i]) & 0xFF];
+        }
+        return crc;
+    }
+
+    /**
+     * Continues a reflected CRC over the remaining bytes of the buffer, advancing its position.
+     */
+    public long update(long crc, ByteBuffer buf) {
+        while (buf.hasRemaining()) {
+            crc = (crc >>> 8) ^ table[(int) (crc ^ buf.get()) & 0xFF];
+        }
+        return crc;
+    }
+
+    /**
+     * Continues a reflected CRC over one byte (low 8 bits of b).
+     */
+    public long update(long crc, int b) {
+        return (crc >>> 8) ^ table[(int) (crc ^ b) & 0xFF];
+    }
+
+    /**
+     * Continues a reflected CRC over one bit; eight calls with the bits of a byte from least significant up equal
+     * {@link #update(long, int)}.
+     */
+    public long updateBit(long crc, int bit) {
+        return ((crc ^ bit) & 1) != 0 ? (crc >>> 1) ^ reversedPoly : crc >>> 1;
+    }
+}
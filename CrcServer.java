@@ -0,0 +1,370 @@
+package Java.CNDC;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousCloseException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local CRC sidecar: a TCP server on the loopback interface that answers length-prefixed frames with the checksum of
+ * their payload under a {@link predefinedCRC} model, or checks it against an expected value.
+ * <pre>
+ * java Java.CNDC.CrcServer [--port 7878] [--max-frame-kb 1024] [--buffers 64] [--body-timeout-ms 10000] [--bind 127.0.0.1]
+ * </pre>
+ * All integers are big-endian. A request is
+ * <pre>
+ * int length | byte op | byte nameLength | name (ASCII) | long expected (verify only) | payload
+ * </pre>
+ * where length counts everything after itself, op is {@link #OP_COMPUTE} or {@link #OP_VERIFY} and name is a model
+ * as {@link CrcCli} accepts it (e.g. CRC-32/ISO-HDLC or CRC32ISOHDLC). The response is
+ * <pre>
+ * int length | byte status | long checksum     (status OK or MISMATCH)
+ * int length | byte status | message (UTF-8)   (status ERROR)
+ * </pre>
+ * Each connection is served by its own virtual thread where the JVM has them (JDK 21+), otherwise by a cached pool of
+ * platform threads; connections are blocking and handle one frame at a time. Frames are read straight into a
+ * fixed pool of direct buffers and hashed there; the payload is never copied. When every buffer is lent out the next
+ * frame waits for one, which bounds the memory a burst of connections can take. A buffer is only lent out once the
+ * length prefix has arrived, and the rest of the frame must follow within the body timeout, or the connection is
+ * closed and the buffer returned, so peers that stall mid-frame cannot starve the pool.
+ * A frame longer than the limit gets an ERROR response and its connection is closed.
+ */
+public final class CrcServer implements AutoCloseable {
+    public static final int DEFAULT_PORT = 7878;
+    public static final int DEFAULT_BODY_TIMEOUT_MILLIS = 10_000;
+    public static final byte OP_COMPUTE = 0;
+    public static final byte OP_VERIFY = 1;
+    public static final byte STATUS_OK = 0;
+    public static final byte STATUS_MISMATCH = 1;
+    public static final byte STATUS_ERROR = 2;
+    private static final int MAX_MESSAGE_BYTES = 256;
+    /** Executors.newVirtualThreadPerTaskExecutor where it works (JDK 21+), null before. */
+    private static final Method VIRTUAL_EXECUTOR = virtualExecutorFactory();
+
+    private static final String USAGE = String.join("\n",
+            "Usage: CrcServer [options]",
+            "  --port             TCP port, 0 for any free port (default " + DEFAULT_PORT + ")",
+            "  --bind             address to listen on (default loopback)",
+            "  --max-frame-kb     largest frame accepted in KiB (default 1024)",
+            "  --buffers          direct frame buffers shared by all connections (default 64)",
+            "  --body-timeout-ms  time a frame may take to arrive after its length prefix (default " + DEFAULT_BODY_TIMEOUT_MILLIS + ")");
+
+    private final ServerSocketChannel server;
+    private final int maxFrameBytes;
+    private final BlockingQueue<ByteBuffer> buffers;
+    private final ExecutorService connections;
+    private final ScheduledExecutorService sweeper;
+    private final long bodyTimeoutNanos;
+    /** Connections reading a frame body into a pooled buffer, with the System.nanoTime() the body is due by. */
+    private final Map<SocketChannel, Long> bodyDeadlines = new ConcurrentHashMap<>();
+    private final AtomicLong frames = new AtomicLong();
+
+    /**
+     * Binds the server with the {@link #DEFAULT_BODY_TIMEOUT_MILLIS default body timeout}.
+     */
+    public CrcServer(InetSocketAddress address, int maxFrameBytes, int bufferCount) throws IOException {
+        this(address, maxFrameBytes, bufferCount, DEFAULT_BODY_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Binds the server; {@link #serve()} then accepts connections.
+     * @param address Address to listen on, e.g. loopback with port 0 for any free port.
+     * @param maxFrameBytes Largest frame accepted, not counting the length prefix.
+     * @param bufferCount Direct buffers of maxFrameBytes each, at least 1.
+     * @param bodyTimeoutMillis Time a frame may take to arrive once its length prefix has, while it holds a buffer.
+     */
+    public CrcServer(InetSocketAddress address, int maxFrameBytes, int bufferCount, long bodyTimeoutMillis) throws IOException {
+        if (maxFrameBytes < 2) throw new IllegalArgumentException("Frame limit must be at least 2 bytes");
+        if (bufferCount < 1) throw new IllegalArgumentException("At least one frame buffer is needed");
+        if (bodyTimeoutMillis < 1) throw new IllegalArgumentException("Body timeout must be at least 1 ms");
+        this.maxFrameBytes = maxFrameBytes;
+        this.bodyTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(bodyTimeoutMillis);
+        this.buffers = new ArrayBlockingQueue<>(bufferCount);
+        for (int i = 0; i < bufferCount; i++) buffers.add(ByteBuffer.allocateDirect(maxFrameBytes));
+        this.connections = newPerTaskExecutor();
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "crc-server-sweeper");
+            t.setDaemon(true);
+            return t;
+        });
+        long period = Math.max(1, bodyTimeoutMillis / 4);
+        sweeper.scheduleWithFixedDelay(this::expireBodies, period, period, TimeUnit.MILLISECONDS);
+        this.server = ServerSocketChannel.open().bind(address);
+    }
+
+    public static void main(String[] args) {
+        try {
+            int port = DEFAULT_PORT;
+            int maxFrame = 1 << 20;
+            int bufferCount = 64;
+            int bodyTimeout = DEFAULT_BODY_TIMEOUT_MILLIS;
+            InetAddress bind = InetAddress.getLoopbackAddress();
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--port" -> port = parseInt(args[i], value(args, ++i));
+                    case "--bind" -> bind = InetAddress.getByName(value(args, ++i));
+                    case "--max-frame-kb" -> maxFrame = parseInt(args[i], value(args, ++i)) << 10;
+                    case "--buffers" -> bufferCount = parseInt(args[i], value(args, ++i));
+                    case "--body-timeout-ms" -> bodyTimeout = parseInt(args[i], value(args, ++i));
+                    default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+                }
+            }
+            if (port < 0 || port > 65535) throw new IllegalArgumentException("--port must be between 0 and 65535.");
+            if (maxFrame <= 0) throw new IllegalArgumentException("--max-frame-kb must be between 1 and 2097151.");
+            try (CrcServer server = new CrcServer(new InetSocketAddress(bind, port), maxFrame, bufferCount, bodyTimeout)) {
+                System.out.println("Serving on " + server.address() + " with " + threadKind() + ", frames up to " + (maxFrame >> 10) + " KiB");
+                server.serve();
+            }
+        } catch (IllegalArgumentException ex) {
+            System.err.println("Error: " + ex.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+        } catch (IOException ex) {
+            System.err.println("I/O error: " + ex.getMessage());
+            System.exit(2);
+        }
+    }
+
+    /**
+     * @return An executor that starts a virtual thread per task on JDK 21+, or a cached platform thread pool before.
+     */
+    static ExecutorService newPerTaskExecutor() {
+        if (VIRTUAL_EXECUTOR != null) {
+            try {
+                return (ExecutorService) VIRTUAL_EXECUTOR.invoke(null);
+            } catch (ReflectiveOperationException ex) {
+                //Checked once in virtualExecutorFactory; fall through to platform threads
+            }
+        }
+        return Executors.newCachedThreadPool();
+    }
+
+    /**
+     * @return "virtual threads" or "platform threads", whichever {@link #newPerTaskExecutor()} hands out.
+     */
+    static String threadKind() {
+        return VIRTUAL_EXECUTOR != null ? "virtual threads" : "platform threads";
+    }
+
+    /**
+     * Looks the factory up reflectively so the class still runs on JDK 17, and calls it once, since preview builds
+     * (JDK 19 and 20) have the method but refuse to run it.
+     */
+    private static Method virtualExecutorFactory() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            ((ExecutorService) factory.invoke(null)).shutdown();
+            return factory;
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            return null;
+        }
+    }
+
+    public InetSocketAddress address() throws IOException {
+        return (InetSocketAddress) server.getLocalAddress();
+    }
+
+    /**
+     * @return Frames answered since the server started.
+     */
+    public long frames() {
+        return frames.get();
+    }
+
+    /**
+     * Accepts connections until the server is closed, handing each to its own thread.
+     */
+    public void serve() throws IOException {
+        while (true) {
+            SocketChannel channel;
+            try {
+                channel = server.accept();
+            } catch (AsynchronousCloseException ex) {
+                return;
+            }
+            connections.execute(() -> handle(channel));
+        }
+    }
+
+    /**
+     * Runs {@link #serve()} on a background thread, for embedding the server in a client or a test.
+     */
+    public void start() {
+        Thread acceptor = new Thread(() -> {
+            try {
+                serve();
+            } catch (IOException ex) {
+                System.err.println("CrcServer stopped: " + ex.getMessage());
+            }
+        }, "crc-server-accept");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.close();
+        connections.shutdownNow();
+        sweeper.shutdownNow();
+    }
+
+    /**
+     * Serves one connection: frames are answered in order until the peer closes it. While a frame body is read into
+     * a pooled buffer the connection is listed with its deadline, and {@link #expireBodies()} closes it if the body is
+     * late, which fails the read and returns the buffer.
+     */
+    private void handle(SocketChannel channel) {
+        Map<predefinedCRC, Crc> crcs = new EnumMap<>(predefinedCRC.class);
+        ByteBuffer header = ByteBuffer.allocate(4);
+        ByteBuffer response = ByteBuffer.allocate(5 + MAX_MESSAGE_BYTES);
+        try (channel) {
+            channel.socket().setTcpNoDelay(true);
+            while (true) {
+                header.clear();
+                if (!readFully(channel, header, true)) return;
+                int length = header.getInt(0);
+                if (length < 2 || length > maxFrameBytes) {
+                    error(response, "Frame of " + length + " bytes is outside 2 to " + maxFrameBytes);
+                    writeFully(channel, response);
+                    return;
+                }
+                ByteBuffer frame = buffers.take();
+                bodyDeadlines.put(channel, System.nanoTime() + bodyTimeoutNanos);
+                try {
+                    frame.clear().limit(length);
+                    readFully(channel, frame, false);
+                    if (bodyDeadlines.remove(channel) == null) return; //Expired just as the body completed; the channel is closing
+                    frame.flip();
+                    answer(frame, crcs, response);
+                } finally {
+                    bodyDeadlines.remove(channel);
+                    buffers.add(frame);
+                }
+                writeFully(channel, response);
+                frames.incrementAndGet();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (IOException ex) {
+            //Peer went away mid-frame or the server is closing; nothing to answer
+        }
+    }
+
+    /**
+     * Closes the connections whose frame body is overdue. Removing the entry first decides the race with a body that
+     * completes at the same moment: whichever side removes it owns the outcome.
+     */
+    private void expireBodies() {
+        long now = System.nanoTime();
+        bodyDeadlines.forEach((channel, due) -> {
+            if (now - due >= 0 && bodyDeadlines.remove(channel, due)) {
+                try {
+                    channel.close();
+                } catch (IOException ex) {
+                    //Closing only to unblock the reader; it sees the channel as closed either way
+                }
+            }
+        });
+    }
+
+    /**
+     * Parses one frame and writes the response into response, ready to send.
+     */
+    private static void answer(ByteBuffer frame, Map<predefinedCRC, Crc> crcs, ByteBuffer response) {
+        byte op = frame.get();
+        int nameLength = frame.get() & 0xFF;
+        if (op != OP_COMPUTE && op != OP_VERIFY) {
+            error(response, "Unknown op " + op);
+            return;
+        }
+        if (frame.remaining() < nameLength + (op == OP_VERIFY ? 8 : 0)) {
+            error(response, "Frame too short for its header");
+            return;
+        }
+        byte[] name = new byte[nameLength];
+        frame.get(name);
+        predefinedCRC model = CrcCli.resolveModel(new String(name, StandardCharsets.US_ASCII));
+        if (model == null) {
+            error(response, "Unknown CRC model: " + new String(name, StandardCharsets.US_ASCII));
+            return;
+        }
+        long expected = op == OP_VERIFY ? frame.getLong() : 0;
+        Crc crc = crcs.computeIfAbsent(model, Crc::new);
+        crc.reset();
+        crc.update(frame);
+        long value = crc.getValue();
+        response.clear();
+        response.putInt(9).put(op == OP_VERIFY && value != expected ? STATUS_MISMATCH : STATUS_OK).putLong(value).flip();
+    }
+
+    private static void error(ByteBuffer response, String message) {
+        byte[] text = message.getBytes(StandardCharsets.UTF_8);
+        int n = Math.min(text.length, MAX_MESSAGE_BYTES);
+        response.clear();
+        response.putInt(1 + n).put(STATUS_ERROR).put(text, 0, n).flip();
+    }
+
+    /**
+     * Builds a request frame, length prefix included, ready to write.
+     * @param expected Checksum to verify against; ignored for {@link #OP_COMPUTE}.
+     */
+    static ByteBuffer request(byte op, String model, long expected, byte[] payload, boolean direct) {
+        byte[] name = model.getBytes(StandardCharsets.US_ASCII);
+        if (name.length > 255) throw new IllegalArgumentException("Model name is longer than 255 bytes");
+        int length = 2 + name.length + (op == OP_VERIFY ? 8 : 0) + payload.length;
+        ByteBuffer frame = direct ? ByteBuffer.allocateDirect(4 + length) : ByteBuffer.allocate(4 + length);
+        frame.putInt(length).put(op).put((byte) name.length).put(name);
+        if (op == OP_VERIFY) frame.putLong(expected);
+        return frame.put(payload).flip();
+    }
+
+    /**
+     * Fills the buffer from the channel.
+     * @param eofAllowed True at a frame boundary, where a closed channel just ends the conversation.
+     * @return False if the channel was closed before the first byte and eofAllowed is set.
+     */
+    static boolean readFully(SocketChannel channel, ByteBuffer buf, boolean eofAllowed) throws IOException {
+        boolean first = true;
+        while (buf.hasRemaining()) {
+            if (channel.read(buf) < 0) {
+                if (first && eofAllowed) return false;
+                throw new EOFException("Connection closed mid-frame");
+            }
+            first = false;
+        }
+        return true;
+    }
+
+    static void writeFully(SocketChannel channel, ByteBuffer buf) throws IOException {
+        while (buf.hasRemaining()) channel.write(buf);
+    }
+
+    private static String value(String[] args, int i) {
+        if (i >= args.length) throw new IllegalArgumentException("Missing value for " + args[i - 1]);
+        return args[i];
+    }
+
+    private static int parseInt(String option, String s) {
+        try {
+            return Integer.parseInt(s);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid number for " + option + ": " + s);
+        }
+    }
+}
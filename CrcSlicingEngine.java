@@ -0,0 +1,201 @@
+package Java.CNDC;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.function.LongConsumer;
+
+/**
+ * Slicing-by-N MSB-first CRC engine for polynomial degrees 1 to 64.
+ * Table 0 is the classic 256-entry table from {@link CrcLongEngine#buildTable}; table k holds the effect of a byte
+ * followed by k zero bytes, so 8 (or 16) input bytes are folded into the register with independent lookups per step.
+ * Memory cost is slices * 2 KiB per polynomial, shared through {@link CrcTableCache}.
+ * Leftover bytes and bits are handed to the single-table engine.
+ */
+public final class CrcSlicingEngine implements CrcEngine {
+    private static final VarHandle LONG_BE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    private final int slices;
+    private final int shift;
+    private final long[][] tables;
+    private final CrcLongEngine single;
+
+    /**
+     * @param polyLow The polynomial without its leading x^degree term, right-aligned.
+     * @param degree Degree of the polynomial (width - 1), between 1 and 64.
+     * @param slices Bytes consumed per iteration, 8 or 16.
+     */
+    public CrcSlicingEngine(long polyLow, int degree, int slices) {
+        if (slices != 8 && slices != 16) {
+            throw new IllegalArgumentException("Slicing supports 8 or 16 bytes per step, got " + slices);
+        }
+        this.single = new CrcLongEngine(polyLow, degree);
+        this.slices = slices;
+        this.shift = 64 - degree;
+        this.tables = CrcTableCache.tables(polyLow, degree, CrcTableCache.Variant.forSlices(slices));
+    }
+
+    public static CrcSlicingEngine of(BigInteger poly, int width, int slices) {
+        return new CrcSlicingEngine(poly.longValue(), width - 1, slices);
+    }
+
+    public static CrcSlicingEngine of(String polyBits, int slices) {
+        return of(new BigInteger(polyBits, 2), polyBits.length(), slices);
+    }
+
+    public int slices() {
+        return slices;
+    }
+
+    @Override
+    public String name() {
+        return "slicing-by-" + slices();
+    }
+
+    @Override
+    public int degree() {
+        return single.degree();
+    }
+
+    /**
+     * Extends a left-aligned Sarwate table into slices tables: T[k][i] = T[k-1][i] pushed through one more zero byte.
+     */
+    static long[][] buildTables(long[] table0, int slices) {
+        long[][] t = new long[slices][];
+        t[0] = table0;
+        for (int k = 1; k < slices; k++) {
+            t[k] = new long[256];
+            for (int i = 0; i < 256; i++) {
+                long prev = t[k - 1][i];
+                t[k][i] = (prev << 8) ^ table0[(int) (prev >>> 56)];
+            }
+        }
+        return t;
+    }
+
+    /**
+     * Continues a CRC over whole bytes.
+     * @param crc The right-aligned register from a previous call, 0 to start.
+     * @return The updated right-aligned register.
+     */
+    public long update(long crc, byte[] bytes, int off, int len) {
+        long reg = crc << shift;
+        int i = off;
+        int end = off + len;
+        if (slices == 16) {
+            for (; end - i >= 16; i += 16) {
+                reg = step16(reg ^ (long) LONG_BE.get(bytes, i), (long) LONG_BE.get(bytes, i + 8));
+            }
+        }
+        for (; end - i >= 8; i += 8) {
+            reg = step8(reg ^ (long) LONG_BE.get(bytes, i));
+        }
+        return single.update(reg >>> shift, bytes, i, end - i);
+    }
+
+    /**
+     * Continues a CRC over the remaining bytes of the buffer, advancing its position.
+     */
+    public long update(long crc, ByteBuffer buf) {
+        ByteOrder order = buf.order();
+        buf.order(ByteOrder.BIG_ENDIAN);
+        long reg = crc << shift;
+        if (slices == 16) {
+            while (buf.remaining() >= 16) {
+                long hi = buf.getLong();
+                reg = step16(reg ^ hi, buf.getLong());
+            }
+        }
+        while (buf.remaining() >= 8) {
+            reg = step8(reg ^ buf.getLong());
+        }
+        buf.order(order);
+        return single.update(reg >>> shift, buf);
+    }
+
+    /**
+     * Continues a CRC over a packed message. Its big-endian words feed the slicing rounds directly;
+     * the bytes of a partial last word and the bit tail go through the single-table engine.
+     */
+    public long update(long crc, BitMessage message) {
+        return updateTail(update(crc, message, 0, message.fullBytes()), message);
+    }
+
+    /**
+     * Continues a CRC over the whole bytes fromByte to toByte-1 of a packed message, so long messages can be
+     * processed in chunks. Bytes outside 64-bit word boundaries go through the single-table engine.
+     */
+    public long update(long crc, BitMessage message, int fromByte, int toByte) {
+        int j = fromByte;
+        for (; j < toByte && (j & 7) != 0; j++) {
+            crc = single.update(crc, message.byteAt(j));
+        }
+        int i = j >>> 3;
+        int words = toByte >>> 3;
+        long reg = crc << shift;
+        if (slices == 16) {
+            for (; words - i >= 2; i += 2) {
+                reg = step16(reg ^ message.wordAt(i), message.wordAt(i + 1));
+            }
+        }
+        for (; i < words; i++) {
+            reg = step8(reg ^ message.wordAt(i));
+        }
+        crc = reg >>> shift;
+        for (j = Math.max(j, words * 8); j < toByte; j++) {
+            crc = single.update(crc, message.byteAt(j));
+        }
+        return crc;
+    }
+
+    /**
+     * Continues a CRC over the bits after the last whole byte of the message.
+     */
+    public long updateTail(long crc, BitMessage message) {
+        return single.updateTail(crc, message);
+    }
+
+    public long remainder(BitMessage message) {
+        return update(0, message);
+    }
+
+    /**
+     * Runs over the message in chunks of {@link #PROGRESS_CHUNK_BYTES}, reporting progress between chunks.
+     */
+    @Override
+    public BitMessage compute(BitMessage message, CrcTrace trace, LongConsumer progress) {
+        long crc = 0;
+        int bytes = message.fullBytes();
+        for (int from = 0; from < bytes; from += PROGRESS_CHUNK_BYTES) {
+            int to = Math.min(bytes, from + PROGRESS_CHUNK_BYTES);
+            crc = update(crc, message, from, to);
+            if (progress != null) progress.accept(8L * to);
+        }
+        crc = updateTail(crc, message);
+        if (progress != null) progress.accept(message.length());
+        return BitMessage.of(crc, degree());
+    }
+
+    public String toBinary(long crc) {
+        return single.toBinary(crc);
+    }
+
+    private long step8(long x) {
+        long[][] t = tables;
+        return t[7][(int) (x >>> 56)] ^ t[6][(int) (x >>> 48) & 0xFF]
+                ^ t[5][(int) (x >>> 40) & 0xFF] ^ t[4][(int) (x >>> 32) & 0xFF]
+                ^ t[3][(int) (x >>> 24) & 0xFF] ^ t[2][(int) (x >>> 16) & 0xFF]
+                ^ t[1][(int) (x >>> 8) & 0xFF] ^ t[0][(int) x & 0xFF];
+    }
+
+    private long step16(long x, long y) {
+        long[][] t = tables;
+        return t[15][(int) (x >>> 56)] ^ t[14][(int) (x >>> 48) & 0xFF]
+                ^ t[13][(int) (x >>> 40) & 0xFF] ^ t[12][(int) (x >>> 32) & 0xFF]
+                ^ t[11][(int) (x >>> 24) & 0xFF] ^ t[10][(int) (x >>> 16) & 0xFF]
+                ^ t[9][(int) (x >>> 8) & 0xFF] ^ t[8][(int) x & 0xFF]
+                ^ step8(y);
+    }
+}
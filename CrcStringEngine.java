@@ -0,0 +1,163 @@
+package Java.CNDC;
+
+import java.util.function.LongConsumer;
+
+/**
+ * The String simulator's algorithms: long division on the '0'/'1' character form, either bit by bit or byte by byte
+ * through a 256-entry table of remainder strings. Any width works; below CRC-8 the table register is padded to a byte.
+ * Slow next to the primitive engines, but the register is plain text at every step, which is what the trace shows.
+ */
+public final class CrcStringEngine implements CrcEngine {
+    private static final int BIT_PROGRESS_STEP = 1 << 12;
+
+    private final String polyBits;
+    private final int width;
+    private final String[] table;
+
+    /**
+     * @param polyBits The bit string for the polynomial, with leading 1 written down.
+     * @param lookup True for the byte-wise table algorithm, false for bitwise division.
+     */
+    public CrcStringEngine(String polyBits, boolean lookup) {
+        if (!polyBits.matches("1[01]+")) throw new IllegalArgumentException("Polynomial must be binary with a leading 1 and degree 1 or higher: " + polyBits);
+        this.polyBits = polyBits;
+        this.width = polyBits.length();
+        this.table = lookup ? buildCrcTable(polyBits, width) : null;
+    }
+
+    @Override
+    public String name() {
+        return table != null ? "String lookup table" : "String bitwise";
+    }
+
+    @Override
+    public int degree() {
+        return width - 1;
+    }
+
+    @Override
+    public boolean traces() {
+        return true;
+    }
+
+    @Override
+    public BitMessage compute(BitMessage message, CrcTrace trace, LongConsumer progress) {
+        return BitMessage.parse(table != null ? lookup(message.toBinaryString(), trace, progress) : bitwise(message.toBinaryString(), trace, progress));
+    }
+
+    /**
+     * Bitwise MSB-first long division of the data followed by width - 1 zeros.
+     * @return The remainder string.
+     */
+    private String bitwise(String data, CrcTrace trace, LongConsumer progress) {
+        int pad = width - 1;
+        StringBuilder augmented = new StringBuilder(data);
+        augmented.append("0".repeat(pad));
+
+        int dataEnd = data.length();
+        for (int i = 0; i < dataEnd; i++) {
+            if (progress != null && (i & (BIT_PROGRESS_STEP - 1)) == 0) progress.accept(i);
+            if (augmented.charAt(i) != '1') continue;
+            for (int j = 0; j < width; j++) {
+                if (polyBits.charAt(j) == '1') {
+                    int idx = i + j;
+                    char newBit = (augmented.charAt(idx) == '1') ? '0' : '1';
+                    augmented.setCharAt(idx, newBit);
+                }
+            }
+            if (trace != null) trace.recordBits(CrcTrace.BIT_STEP, i + 1, 1, i, augmented, i + 1, i + width);
+        }
+        if (progress != null) progress.accept(dataEnd);
+        return augmented.substring(dataEnd);
+    }
+
+    /**
+     * Computes a 256-entry CRC table (MSB-first), where each entry is the result of an 8-bit byte XOR with the polynomial.
+     * After generating the lookup table, CRC encoding and decoding can refer to the table for quicker computations.
+     * For CRC-64 and below the table is taken from {@link CrcTableCache} instead of being recomputed on every call.
+     * Below CRC-8 the entries are 8 characters wide, the remainder left-aligned with zeros after it.
+     * @param polyBits The generator polynomial.
+     * @param width the length of the polynomial.
+     * @return The CRC table.
+     */
+    private static String[] buildCrcTable(String polyBits, int width) {
+        String[] table = new String[256];
+        int degree = width - 1;
+        if (degree <= 64) { //Up to CRC-64 the table is kept in the shared cache, only the string form is rendered here
+            long[] cached = CrcTableCache.tables(Long.parseUnsignedLong(polyBits.substring(1), 2), degree, CrcTableCache.Variant.SARWATE)[0];
+            int regBits = Math.max(degree, 8);
+            for (int i = 0; i < 256; i++) {
+                String bits = Long.toBinaryString(cached[i] >>> (64 - regBits));
+                table[i] = "0".repeat(regBits - bits.length()) + bits;
+            }
+            return table;
+        }
+
+        for (int i = 0; i < 256; i++) {
+            StringBuilder crc = new StringBuilder(String.format("%8s", Integer.toBinaryString(i)).replace(' ', '0'));
+            crc.append("0".repeat(degree - 8)); //Generate each unique permutation of the 8-bit byte and right-pad with 0s if degree >= 9
+
+            // perform 8 MSB-first bit shifts with conditional XOR by polynomial (excluding implicit top bit)
+            for (int step = 0; step < 8; step++) {
+                boolean topSet = crc.charAt(0) == '1';
+                // left shift CRC by 1
+                crc.deleteCharAt(0);
+                crc.append('0');
+
+                if (topSet) {
+                    StringBuilder next = new StringBuilder(degree);
+                    for (int k = 0; k < degree; k++) {next.append(polyBits.charAt(k+1) == crc.charAt(k) ? '0' : '1');}
+                    crc = next;
+                }
+            }
+            table[i] = crc.toString();
+        }
+        return table;
+    }
+
+    /**
+     * This method uses the concept of the CRC register, and processes the message byte-by-byte instead of bit-by-bit.
+     * If the data length is not a multiple of 8, the last few least significant bits are done bitwise.
+     * Below CRC-8 the register is padded to 8 characters, the remainder in the leading padBits.
+     * @return The remainder string.
+     */
+    private String lookup(String data, CrcTrace trace, LongConsumer progress) {
+        int padBits = width - 1;
+        int regBits = Math.max(padBits, 8);
+        StringBuilder crc = new StringBuilder("0".repeat(regBits));
+        int unfinishedBytePos = data.length() - data.length() % 8;
+        // process message bytes in 8-bit chunks
+        for (int i = 0; i < unfinishedBytePos; i += 8) {
+            if (progress != null && (i & (8 * PROGRESS_CHUNK_BYTES - 1)) == 0) progress.accept(i);
+            String byteStr = data.substring(i, i + 8);
+
+            String top8 = crc.substring(0, 8);
+            StringBuilder idxBits = new StringBuilder(8);
+            for (int k = 0; k < 8; k++) idxBits.append(top8.charAt(k) == byteStr.charAt(k) ? '0' : '1');
+            int idx = Integer.parseInt(idxBits.toString(), 2); //find index for CRC table
+
+            StringBuilder newCrc = new StringBuilder(regBits);
+            crc.delete(0,8);
+            crc.append("0".repeat(8)); //left shift old CRC by 8 (removing the bits used to find the table index)
+            String tb = table[idx];
+            for (int k = 0; k < regBits; k++) newCrc.append(tb.charAt(k) == crc.charAt(k) ? '0' : '1'); //XOR
+            crc = newCrc;
+            if (trace != null) trace.recordBits(CrcTrace.BYTE_STEP, (i/8) + 1, Integer.parseInt(byteStr, 2), idx, crc, 0, padBits);
+        }
+
+        for (int i = unfinishedBytePos; i < data.length(); i++) { //If data isn't a multiple of 8, bit-by-bit XOR the least significant bits
+            if (data.charAt(i) == '1') crc.setCharAt(0, crc.charAt(0) == '1' ? '0' : '1');
+            boolean topSet = crc.charAt(0) == '1';
+            // left shift CRC by 1
+            crc.deleteCharAt(0);
+            crc.append('0');
+
+            if (topSet) {
+                for (int k = 0; k < padBits; k++) crc.setCharAt(k, polyBits.charAt(k+1) == crc.charAt(k) ? '0' : '1');
+            }
+            if (trace != null) trace.recordBits(CrcTrace.BIT_STEP, i - unfinishedBytePos + 1, data.charAt(i) - '0', i, crc, 0, padBits);
+        }
+        if (progress != null) progress.accept(data.length());
+        return crc.substring(0, padBits);
+    }
+}
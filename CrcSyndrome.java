@@ -0,0 +1,88 @@
+package Java.CNDC;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Updates a codeword's syndrome (the remainder the decoder computes, in the engine convention C * x^degree mod P)
+ * after bit flips, without reading the codeword. CRC is linear, so flipping bit i of an n-bit codeword changes the
+ * syndrome by x^(n-1-i+degree) mod P, which {@link CrcCombine#xPow} gives in O(log n) multiplications; k flips cost
+ * O(k log n) whatever the codeword length. Supports CRC-1 to CRC-64.
+ */
+public final class CrcSyndrome {
+    /**
+     * Outcome of a re-verification.
+     * @param syndrome The updated syndrome; zero means the decoder would report no error.
+     * @param netFlips Positions flipped an odd number of times, i.e. where the codeword now differs; a zero syndrome
+     *                 with net flips is an undetected error.
+     * @param cancelled Groups of flipped positions whose contributions are equal and so cancel in pairs: the same
+     *                  position flipped twice, or positions a multiple of the order of x apart.
+     */
+    public record Update(long syndrome, List<Long> netFlips, List<List<Long>> cancelled) {
+    }
+
+    private final CrcCombine math;
+
+    /**
+     * @param polyLow The polynomial without its leading x^degree term, right-aligned.
+     * @param degree Degree of the polynomial, 1 to 64.
+     */
+    public CrcSyndrome(long polyLow, int degree) {
+        this.math = new CrcCombine(polyLow, degree);
+    }
+
+    /**
+     * @param polyBits Polynomial bit string with the leading 1 written down.
+     */
+    public static CrcSyndrome of(String polyBits) {
+        return new CrcSyndrome(new BigInteger(polyBits, 2).longValue(), polyBits.length() - 1);
+    }
+
+    /**
+     * @return True if a polynomial of this width (degree = width - 1) is supported.
+     */
+    public static boolean fits(int width) {
+        return width >= 2 && width <= 65;
+    }
+
+    public int degree() {
+        return math.degree();
+    }
+
+    /**
+     * @param length Codeword length in bits.
+     * @param position Flipped bit, 0 for the first (most significant) bit.
+     * @return The change in the syndrome caused by flipping that bit.
+     */
+    public long contribution(long length, long position) {
+        if (position < 0 || position >= length) throw new IllegalArgumentException("Bit " + position + " is outside a " + length + "-bit codeword");
+        return math.xPow(length - 1 - position + math.degree());
+    }
+
+    /**
+     * Applies flips to a known syndrome.
+     * @param syndrome Syndrome of the codeword before the flips, 0 for a valid codeword.
+     * @param length Codeword length in bits.
+     * @param positions Flipped bits in order; a position may appear more than once.
+     */
+    public Update apply(long syndrome, long length, List<Long> positions) {
+        Map<Long, List<Long>> byContribution = new LinkedHashMap<>();
+        Set<Long> net = new LinkedHashSet<>();
+        for (long position : positions) {
+            long c = contribution(length, position);
+            syndrome ^= c;
+            byContribution.computeIfAbsent(c, k -> new ArrayList<>()).add(position);
+            if (!net.remove(position)) net.add(position);
+        }
+        List<List<Long>> cancelled = new ArrayList<>();
+        for (List<Long> group : byContribution.values()) {
+            if (group.size() > 1) cancelled.add(group);
+        }
+        return new Update(syndrome, new ArrayList<>(net), cancelled);
+    }
+}
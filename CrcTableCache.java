@@ -0,0 +1,163 @@
+package Java.CNDC;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Process-wide cache of CRC lookup tables, keyed by polynomial, degree and table variant.
+ * Tables are primitive long arrays and are shared between engines, so callers must treat them as read-only.
+ * The cache is an access-ordered LRU bounded by the total bytes of the tables it holds; the least recently used
+ * entries are evicted once the budget is exceeded. All methods are thread-safe.
+ * Tables for the predefined CRCs are not computed but loaded from {@link CrcPrecomputedTables}, generated by {@link CrcTableGen}.
+ */
+public final class CrcTableCache {
+    /**
+     * Table layouts. Slicing variants reuse the cached Sarwate table as their table 0;
+     * REFLECTED is the LSB-first table of {@link CrcReflectedEngine}, right-aligned;
+     * TAIL is the 1 to 7 bit table {@link CrcLongEngine} uses after the last whole byte.
+     */
+    public enum Variant {
+        SARWATE(1), SLICING_8(8), SLICING_16(16), REFLECTED(1), TAIL(1);
+
+        private final int tableCount;
+
+        Variant(int tableCount) {
+            this.tableCount = tableCount;
+        }
+
+        public int tableCount() {
+            return tableCount;
+        }
+
+        public static Variant forSlices(int slices) {
+            return switch (slices) {
+                case 1 -> SARWATE;
+                case 8 -> SLICING_8;
+                case 16 -> SLICING_16;
+                default -> throw new IllegalArgumentException("No table variant for " + slices + " bytes per step");
+            };
+        }
+    }
+
+    private record Key(long polyLow, int degree, Variant variant) {
+    }
+
+    /** Default budget: room for every predefined CRC in every variant, with space to spare for custom ones. */
+    public static final long DEFAULT_MAX_BYTES = 4L << 20;
+
+    private static final Map<Key, long[][]> TABLES = new LinkedHashMap<>(32, 0.75f, true);
+    private static final AtomicLong HITS = new AtomicLong();
+    private static final AtomicLong MISSES = new AtomicLong();
+    private static final AtomicLong EVICTIONS = new AtomicLong();
+    private static long maxBytes = DEFAULT_MAX_BYTES;
+    private static long bytes;
+
+    private CrcTableCache() {
+    }
+
+    /**
+     * Returns the tables for a polynomial, building and caching them on a miss.
+     * @param polyLow The polynomial without its leading x^degree term, right-aligned.
+     * @param degree Degree of the polynomial, 1 to 64.
+     * @return variant.tableCount() tables of 256 entries (left-aligned except REFLECTED); shared, do not modify.
+     */
+    public static long[][] tables(long polyLow, int degree, Variant variant) {
+        Key key = new Key(polyLow & CrcLongEngine.mask(degree), degree, variant);
+        synchronized (TABLES) {
+            long[][] cached = TABLES.get(key);
+            if (cached != null) {
+                HITS.incrementAndGet();
+                return cached;
+            }
+            MISSES.incrementAndGet();
+            long[][] built = build(key);
+            TABLES.put(key, built);
+            bytes += sizeOf(built);
+            evict();
+            return built;
+        }
+    }
+
+    private static long[][] build(Key key) {
+        long[][] precomputed = CrcPrecomputedTables.tables(key.polyLow(), key.degree(), key.variant());
+        if (precomputed != null) return precomputed;
+        if (key.variant() == Variant.SARWATE) {
+            return new long[][]{CrcLongEngine.buildTable(key.polyLow(), key.degree())};
+        }
+        if (key.variant() == Variant.REFLECTED) {
+            return new long[][]{CrcReflectedEngine.buildTable(key.polyLow(), key.degree())};
+        }
+        if (key.variant() == Variant.TAIL) {
+            return new long[][]{CrcLongEngine.buildTailTable(key.polyLow(), key.degree())};
+        }
+        long[] table0 = tables(key.polyLow(), key.degree(), Variant.SARWATE)[0];
+        return CrcSlicingEngine.buildTables(table0, key.variant().tableCount());
+    }
+
+    private static long sizeOf(long[][] tables) {
+        return tables.length * 256L * Long.BYTES;
+    }
+
+    private static void evict() {
+        var it = TABLES.entrySet().iterator();
+        while (bytes > maxBytes && TABLES.size() > 1 && it.hasNext()) {
+            long[][] eldest = it.next().getValue();
+            it.remove();
+            bytes -= sizeOf(eldest);
+            EVICTIONS.incrementAndGet();
+        }
+    }
+
+    /**
+     * Loads every table variant for every predefined CRC, so the first encode pays no table cost.
+     */
+    public static void prewarm() {
+        for (predefinedCRC crc : predefinedCRC.values()) {
+            if (crc == predefinedCRC.CUSTOM) continue;
+            for (Variant variant : Variant.values()) {
+                tables(crc.getPolyLow(), crc.getDegree(), variant);
+            }
+        }
+    }
+
+    /**
+     * Changes the byte budget, evicting least recently used tables if the cache is now over it.
+     */
+    public static void setMaxBytes(long max) {
+        if (max < 0) throw new IllegalArgumentException("Cache budget cannot be negative");
+        synchronized (TABLES) {
+            maxBytes = max;
+            evict();
+        }
+    }
+
+    public static void clear() {
+        synchronized (TABLES) {
+            TABLES.clear();
+            bytes = 0;
+        }
+    }
+
+    public static long hits() {
+        return HITS.get();
+    }
+
+    public static long misses() {
+        return MISSES.get();
+    }
+
+    public static long evictions() {
+        return EVICTIONS.get();
+    }
+
+    /**
+     * @return A one-line summary of the counters and occupancy, for logs.
+     */
+    public static String stats() {
+        synchronized (TABLES) {
+            return String.format("Table cache: %d hits, %d misses, %d evictions, %d entries, %d KiB of %d KiB",
+                    HITS.get(), MISSES.get(), EVICTIONS.get(), TABLES.size(), bytes >> 10, maxBytes >> 10);
+        }
+    }
+}
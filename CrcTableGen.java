@@ -0,0 +1,308 @@
+package Java.CNDC;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Source generator for CRC lookup tables.
+ * <pre>
+ * java Java.CNDC.CrcTableGen precomputed [--out CrcPrecomputedTables.java]
+ * java Java.CNDC.CrcTableGen export --poly CRC-32/ISO-HDLC --lang c [--slices 1|8|16] [--name crc_table] [--out crc_table.h]
+ * </pre>
+ * precomputed regenerates {@link CrcPrecomputedTables}, the table literals {@link CrcTableCache} loads for every
+ * predefinedCRC instead of computing them. Run it again whenever a constant is added to predefinedCRC.
+ * export writes one polynomial's table as standalone C or Java source, right-aligned in the narrowest type that holds
+ * the register (uint8_t to uint64_t in C, int or long in Java), in the bit order the model uses on the wire.
+ * Exit status: 0 on success, 2 on bad usage or I/O errors.
+ */
+public final class CrcTableGen {
+    private static final String USAGE = String.join("\n",
+            "Usage: CrcTableGen precomputed [--out file]",
+            "       CrcTableGen export --poly <name|bits> [options]",
+            "  --out      output file (default: CrcPrecomputedTables.java for precomputed, standard output for export)",
+            "  --poly     predefined CRC name (e.g. CRC-32, CRC-32/ISO-HDLC, CRC64XZ) or polynomial bits with leading 1",
+            "  --lang     c or java (default c)",
+            "  --slices   tables to write: 1, or 8 or 16 for slicing-by-N (default 1, MSB-first only)",
+            "  --reflect  write the LSB-first table even for polynomial bits (predefined models use their own order)",
+            "  --name     array name in C (default crc_table), class name in Java (default from --out, else CrcTable)");
+
+    private static final int VALUES_PER_LINE = 4;
+
+    private CrcTableGen() {
+    }
+
+    public static void main(String[] args) {
+        try {
+            System.exit(run(args));
+        } catch (IllegalArgumentException ex) {
+            System.err.println("Error: " + ex.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+        } catch (IOException ex) {
+            System.err.println("I/O error: " + ex.getMessage());
+            System.exit(2);
+        }
+    }
+
+    static int run(String[] args) throws IOException {
+        if (args.length == 0) throw new IllegalArgumentException("Missing command.");
+        String command = args[0];
+        if (!command.equals("precomputed") && !command.equals("export")) {
+            throw new IllegalArgumentException("Unknown command: " + command);
+        }
+        String out = null;
+        String polyArg = null;
+        String lang = "c";
+        String name = null;
+        int slices = 1;
+        boolean reflect = false;
+        for (int i = 1; i < args.length; i++) {
+            switch (args[i]) {
+                case "--out" -> out = value(args, ++i);
+                case "--poly" -> polyArg = value(args, ++i);
+                case "--lang" -> lang = value(args, ++i).toLowerCase(Locale.ROOT);
+                case "--slices" -> slices = parseInt(args[i], value(args, ++i));
+                case "--reflect" -> reflect = true;
+                case "--name" -> name = value(args, ++i);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        String source;
+        if (command.equals("precomputed")) {
+            if (polyArg != null) throw new IllegalArgumentException("precomputed covers every predefined CRC; drop --poly.");
+            source = precomputed();
+            if (out == null) out = "CrcPrecomputedTables.java";
+        } else {
+            if (polyArg == null) throw new IllegalArgumentException("--poly is required.");
+            if (!lang.equals("c") && !lang.equals("java")) throw new IllegalArgumentException("--lang must be c or java.");
+            if (slices != 1 && slices != 8 && slices != 16) throw new IllegalArgumentException("--slices must be 1, 8 or 16.");
+            String polyBits = CrcCli.resolvePoly(polyArg);
+            if (!CrcLongEngine.fits(polyBits.length())) {
+                throw new IllegalArgumentException("Tables cover CRC-1 to CRC-64, got CRC-" + (polyBits.length() - 1));
+            }
+            predefinedCRC model = CrcCli.resolveModel(polyArg);
+            reflect |= model != null && model.isRefIn();
+            if (reflect && slices > 1) {
+                throw new IllegalArgumentException("Slicing tables are MSB-first; reflected tables are exported with --slices 1.");
+            }
+            String label = model != null ? model.toString() : "CRC-" + (polyBits.length() - 1);
+            if (name == null) name = lang.equals("c") ? "crc_table" : out != null ? className(out) : "CrcTable";
+            if (!name.matches("[A-Za-z_][A-Za-z0-9_]*")) throw new IllegalArgumentException("Invalid --name: " + name);
+            source = export(label, new BigInteger(polyBits, 2).longValue(), polyBits.length() - 1, slices, reflect, lang, name);
+        }
+
+        if (out == null) {
+            System.out.print(source);
+        } else {
+            Files.write(Paths.get(out), source.getBytes(StandardCharsets.UTF_8));
+            System.err.println("Wrote " + out);
+        }
+        return 0;
+    }
+
+    /**
+     * @return The source of {@link CrcPrecomputedTables}: one holder class per distinct predefined polynomial, with a
+     * nested holder per table layout so each is only initialized when first asked for.
+     */
+    static String precomputed() {
+        Map<String, List<predefinedCRC>> byPoly = new LinkedHashMap<>();
+        for (predefinedCRC crc : predefinedCRC.values()) {
+            if (crc == predefinedCRC.CUSTOM) continue;
+            byPoly.computeIfAbsent(holderName(crc.getPolyLow(), crc.getDegree()), k -> new ArrayList<>()).add(crc);
+        }
+
+        StringBuilder sb = new StringBuilder(1 << 20);
+        sb.append("package Java.CNDC;\n\n");
+        sb.append("import java.util.Arrays;\n\n");
+        sb.append("/**\n");
+        sb.append(" * Lookup tables for every predefinedCRC, generated by {@link CrcTableGen}; do not edit. Regenerate with\n");
+        sb.append(" * {@code java Java.CNDC.CrcTableGen precomputed} after changing predefinedCRC.\n");
+        sb.append(" * Each table layout sits in its own holder class, so the JVM initializes it on first use and the first encode\n");
+        sb.append(" * with a predefined CRC costs a class load instead of a table computation. Layouts match {@link CrcTableCache.Variant}.\n");
+        sb.append(" */\n");
+        sb.append("final class CrcPrecomputedTables {\n");
+        sb.append("    private CrcPrecomputedTables() {\n");
+        sb.append("    }\n\n");
+        sb.append("    /**\n");
+        sb.append("     * @return The tables for a predefined polynomial, or null if it is not one; shared, do not modify.\n");
+        sb.append("     */\n");
+        sb.append("    static long[][] tables(long polyLow, int degree, CrcTableCache.Variant variant) {\n");
+        for (Map.Entry<String, List<predefinedCRC>> e : byPoly.entrySet()) {
+            predefinedCRC crc = e.getValue().get(0);
+            sb.append(String.format("        if (degree == %d && polyLow == %s) return %s.tables(variant);\n",
+                    crc.getDegree(), literal(crc.getPolyLow(), true), e.getKey()));
+        }
+        sb.append("        return null;\n");
+        sb.append("    }\n");
+
+        for (Map.Entry<String, List<predefinedCRC>> e : byPoly.entrySet()) {
+            predefinedCRC crc = e.getValue().get(0);
+            long polyLow = crc.getPolyLow();
+            int degree = crc.getDegree();
+            long[] table0 = CrcLongEngine.buildTable(polyLow, degree);
+            long[][] slicing = CrcSlicingEngine.buildTables(table0, CrcTableCache.Variant.SLICING_16.tableCount());
+            List<String> names = new ArrayList<>();
+            for (predefinedCRC c : e.getValue()) names.add(c.toString());
+
+            sb.append("\n    /** ").append(String.join(", ", names)).append(". */\n");
+            sb.append("    private static final class ").append(e.getKey()).append(" {\n");
+            sb.append("        static long[][] tables(CrcTableCache.Variant variant) {\n");
+            sb.append("            return switch (variant) {\n");
+            sb.append("                case SARWATE -> new long[][]{Sarwate.TABLE};\n");
+            sb.append("                case SLICING_8 -> Arrays.copyOf(Slicing.TABLES, 8);\n");
+            sb.append("                case SLICING_16 -> Slicing.TABLES;\n");
+            sb.append("                case REFLECTED -> new long[][]{Reflected.TABLE};\n");
+            sb.append("                case TAIL -> new long[][]{Tail.TABLE};\n");
+            sb.append("            };\n");
+            sb.append("        }\n\n");
+            sb.append("        private static final class Sarwate {\n");
+            sb.append("            static final long[] TABLE = {\n");
+            values(sb, table0, 64, "                ", "L");
+            sb.append("            };\n");
+            sb.append("        }\n\n");
+            sb.append("        private static final class Slicing {\n");
+            sb.append("            static final long[][] TABLES = {\n");
+            sb.append("                Sarwate.TABLE,\n");
+            for (int k = 1; k < slicing.length; k++) {
+                sb.append("                {\n");
+                values(sb, slicing[k], 64, "                    ", "L");
+                sb.append(k < slicing.length - 1 ? "                },\n" : "                }\n");
+            }
+            sb.append("            };\n");
+            sb.append("        }\n\n");
+            sb.append("        private static final class Reflected {\n");
+            sb.append("            static final long[] TABLE = {\n");
+            values(sb, CrcReflectedEngine.buildTable(polyLow, degree), 64, "                ", "L");
+            sb.append("            };\n");
+            sb.append("        }\n\n");
+            sb.append("        private static final class Tail {\n");
+            sb.append("            static final long[] TABLE = {\n");
+            values(sb, CrcLongEngine.buildTailTable(polyLow, degree), 64, "                ", "L");
+            sb.append("            };\n");
+            sb.append("        }\n");
+            sb.append("    }\n");
+        }
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    /**
+     * @return C or Java source declaring the right-aligned table(s) for one polynomial, with the byte update in a comment.
+     */
+    static String export(String label, long polyLow, int degree, int slices, boolean reflect, String lang, String name) {
+        long[][] tables;
+        if (reflect) {
+            tables = new long[][]{CrcReflectedEngine.buildTable(polyLow, degree)};
+        } else {
+            long[] table0 = CrcLongEngine.buildTable(polyLow, degree);
+            tables = slices == 1 ? new long[][]{table0} : CrcSlicingEngine.buildTables(table0, slices);
+            for (int k = 0; k < tables.length; k++) {
+                long[] right = new long[256];
+                for (int i = 0; i < 256; i++) right[i] = tables[k][i] >>> (64 - degree);
+                tables[k] = right;
+            }
+        }
+        boolean c = lang.equals("c");
+        int typeBits = c ? Math.max(8, Integer.highestOneBit(degree - 1) << 1) : degree <= 32 ? 32 : 64;
+        String type = c ? "uint" + typeBits + "_t" : typeBits == 32 ? "int" : "long";
+        String suffix = c ? typeBits == 64 ? "ULL" : "u" : typeBits == 64 ? "L" : "";
+        String table = c ? name : "TABLE";
+        String index = slices == 1 ? table : table + "[0]";
+        String mask = degree == typeBits ? "" : " & " + literal(CrcLongEngine.mask(degree), false) + suffix;
+
+        String shr = c ? ">>" : ">>>";
+        String update;
+        if (reflect) {
+            update = "crc = (crc " + shr + " 8) ^ " + index + "[(int) (crc ^ b) & 0xFF]";
+        } else if (degree <= 8) {
+            update = "crc = " + index + "[(int) (" + (degree == 8 ? "crc" : "(crc << " + (8 - degree) + ")") + " ^ b) & 0xFF]";
+        } else {
+            String step = "(crc << 8) ^ " + index + "[(int) ((crc " + shr + " " + (degree - 8) + ") ^ b) & 0xFF]";
+            update = "crc = " + (mask.isEmpty() ? step : "(" + step + ")" + mask);
+        }
+        if (c) update = update.replace("(int) ", "");
+
+        StringBuilder sb = new StringBuilder(1 << 16);
+        String pad = " * ";
+        sb.append(c ? "/*\n" : "/**\n");
+        sb.append(pad).append(label).append(" lookup table").append(slices > 1 ? "s (slicing-by-" + slices + ")" : "")
+                .append(", generated by CrcTableGen. Do not edit.\n");
+        sb.append(pad).append("Polynomial ").append(literal(polyLow & CrcLongEngine.mask(degree), false)).append(" (degree ").append(degree)
+                .append("), ").append(reflect ? "reflected (LSB-first)" : "MSB-first").append(", right-aligned.\n");
+        sb.append(pad).append("Update with one byte b:\n");
+        sb.append(pad).append("    ").append(update).append(";\n");
+        if (slices > 1) {
+            sb.append(pad).append("Table k is the effect of a byte followed by k zero bytes, so ").append(slices)
+                    .append(" bytes fold in with one lookup each.\n");
+        }
+        sb.append(" */\n");
+
+        if (c) {
+            sb.append("#include <stdint.h>\n\n");
+            sb.append("const ").append(type).append(' ').append(name).append(slices > 1 ? "[" + slices + "]" : "").append("[256] = {\n");
+        } else {
+            sb.append("public final class ").append(name).append(" {\n");
+            sb.append("    private ").append(name).append("() {\n");
+            sb.append("    }\n\n");
+            sb.append("    public static final ").append(type).append(slices > 1 ? "[][] " : "[] ").append("TABLE").append(" = {\n");
+        }
+        String indent = c ? "    " : "        ";
+        for (int k = 0; k < tables.length; k++) {
+            if (slices == 1) {
+                values(sb, tables[k], typeBits, indent, suffix);
+            } else {
+                sb.append(indent).append("{\n");
+                values(sb, tables[k], typeBits, indent + "    ", suffix);
+                sb.append(indent).append(k < tables.length - 1 ? "},\n" : "}\n");
+            }
+        }
+        sb.append(c ? "};\n" : "    };\n}\n");
+        return sb.toString();
+    }
+
+    private static void values(StringBuilder sb, long[] table, int bits, String indent, String suffix) {
+        for (int i = 0; i < table.length; i++) {
+            if (i % VALUES_PER_LINE == 0) sb.append(indent);
+            String hex = Long.toHexString(table[i]).toUpperCase(Locale.ROOT);
+            sb.append("0x").append("0".repeat(bits / 4 - hex.length())).append(hex).append(suffix);
+            if (i < table.length - 1) sb.append(i % VALUES_PER_LINE == VALUES_PER_LINE - 1 ? ",\n" : ", ");
+        }
+        sb.append('\n');
+    }
+
+    private static String literal(long value, boolean javaLong) {
+        return "0x" + Long.toHexString(value).toUpperCase(Locale.ROOT) + (javaLong ? "L" : "");
+    }
+
+    private static String holderName(long polyLow, int degree) {
+        String hex = Long.toHexString(polyLow & CrcLongEngine.mask(degree)).toUpperCase(Locale.ROOT);
+        return "Crc" + degree + "x" + "0".repeat((degree + 3) / 4 - hex.length()) + hex;
+    }
+
+    private static String className(String file) {
+        String base = Paths.get(file).getFileName().toString();
+        return base.endsWith(".java") ? base.substring(0, base.length() - 5) : base;
+    }
+
+    private static String value(String[] args, int i) {
+        if (i >= args.length) throw new IllegalArgumentException("Missing value for " + args[i - 1]);
+        return args[i];
+    }
+
+    private static int parseInt(String option, String s) {
+        try {
+            return Integer.parseInt(s);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid number for " + option + ": " + s);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package Java.CNDC;
+
+/**
+ * Bounded record of calculation steps, kept in parallel primitive arrays used as a ring buffer.
+ * Each step stores its index, kind (byte or bit step), input value, table index (or bit position) and the register,
+ * up to 128 bits of it. When more steps are recorded than the capacity, the oldest ones are overwritten.
+ * Nothing is formatted while recording; {@link #register(int)} renders a row only when the viewer asks for it.
+ */
+public final class CrcTrace {
+    public static final int BYTE_STEP = 0;
+    public static final int BIT_STEP = 1;
+
+    private final int capacity;
+    private final int registerBits;
+    private final long[] steps;
+    private final byte[] kinds;
+    private final int[] values;
+    private final int[] indices;
+    private final long[] regHi;
+    private final long[] regLo;
+    private long recorded;
+
+    /**
+     * @param capacity Maximum number of steps kept, at least 1.
+     * @param registerBits Width of the register (CRC degree), used when rendering it.
+     */
+    public CrcTrace(int capacity, int registerBits) {
+        if (capacity < 1) throw new IllegalArgumentException("Trace capacity must be at least 1");
+        this.capacity = capacity;
+        this.registerBits = registerBits;
+        this.steps = new long[capacity];
+        this.kinds = new byte[capacity];
+        this.values = new int[capacity];
+        this.indices = new int[capacity];
+        this.regHi = new long[capacity];
+        this.regLo = new long[capacity];
+    }
+
+    /**
+     * Records a step with the register given as up to 128 bits (hi:lo).
+     */
+    public void record(int kind, long step, int value, int index, long hi, long lo) {
+        int slot = (int) (recorded % capacity);
+        steps[slot] = step;
+        kinds[slot] = (byte) kind;
+        values[slot] = value;
+        indices[slot] = index;
+        regHi[slot] = hi;
+        regLo[slot] = lo;
+        recorded++;
+    }
+
+    /**
+     * Records a step whose register is the '0'/'1' characters from..to-1 of bits; only the last 128 are kept.
+     */
+    public void recordBits(int kind, long step, int value, int index, CharSequence bits, int from, int to) {
+        long hi = 0;
+        long lo = 0;
+        for (int k = Math.max(from, to - 128); k < to; k++) {
+            hi = (hi << 1) | (lo >>> 63);
+            lo = (lo << 1) | (bits.charAt(k) - '0');
+        }
+        record(kind, step, value, index, hi, lo);
+    }
+
+    /**
+     * @return Steps recorded since creation, including overwritten ones.
+     */
+    public long recorded() {
+        return recorded;
+    }
+
+    /**
+     * @return Steps currently retained.
+     */
+    public int size() {
+        return (int) Math.min(recorded, capacity);
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    private int slot(int row) {
+        if (row < 0 || row >= size()) throw new IndexOutOfBoundsException("Row " + row + " of " + size());
+        long first = recorded - size();
+        return (int) ((first + row) % capacity);
+    }
+
+    /**
+     * Rows are numbered from the oldest retained step (0) to the newest (size() - 1).
+     */
+    public long step(int row) {
+        return steps[slot(row)];
+    }
+
+    public int kind(int row) {
+        return kinds[slot(row)];
+    }
+
+    public int value(int row) {
+        return values[slot(row)];
+    }
+
+    public int index(int row) {
+        return indices[slot(row)];
+    }
+
+    /**
+     * @return The register of the row in binary, padded to the register width; wider registers show their last 128 bits.
+     */
+    public String register(int row) {
+        int s = slot(row);
+        int bits = Math.min(registerBits, 128);
+        char[] out = new char[bits];
+        for (int i = 0; i < bits; i++) {
+            int pos = bits - 1 - i;
+            long word = pos >= 64 ? regHi[s] : regLo[s];
+            out[i] = (char) ('0' + ((word >>> (pos & 63)) & 1));
+        }
+        return registerBits > 128 ? "…" + new String(out) : new String(out);
+    }
+}
@@ -0,0 +1,78 @@
+package Java.CNDC;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import java.awt.*;
+
+/**
+ * Step viewer backed by a {@link CrcTrace}. The JTable only asks the model for the rows in view,
+ * so a trace of any size costs a screenful of formatting, not one string per step.
+ */
+final class CrcTraceView extends JPanel {
+    private static final String[] COLUMNS = {"Step", "Kind", "Value", "Index", "Register"};
+
+    private final TraceModel model = new TraceModel();
+    private final JLabel summary = new JLabel("No steps recorded.");
+
+    CrcTraceView() {
+        super(new BorderLayout(4, 4));
+        JTable table = new JTable(model);
+        table.setFont(new Font(Font.MONOSPACED, Font.PLAIN, table.getFont().getSize()));
+        table.setAutoResizeMode(JTable.AUTO_RESIZE_LAST_COLUMN);
+        table.getColumnModel().getColumn(0).setPreferredWidth(70);
+        table.getColumnModel().getColumn(1).setPreferredWidth(40);
+        table.getColumnModel().getColumn(2).setPreferredWidth(80);
+        table.getColumnModel().getColumn(3).setPreferredWidth(50);
+        table.getColumnModel().getColumn(4).setPreferredWidth(400);
+        add(summary, BorderLayout.NORTH);
+        add(new JScrollPane(table), BorderLayout.CENTER);
+    }
+
+    /**
+     * Shows a finished run's trace; call on the event dispatch thread.
+     * @param title What was traced, e.g. "Encode".
+     * @param trace The trace, or null to clear the view.
+     */
+    void show(String title, CrcTrace trace) {
+        model.trace = trace;
+        model.fireTableDataChanged();
+        if (trace == null) {
+            summary.setText("No steps recorded.");
+        } else if (trace.recorded() > trace.size()) {
+            summary.setText(String.format("%s: showing the last %,d of %,d steps (trace cap %,d).", title, trace.size(), trace.recorded(), trace.capacity()));
+        } else {
+            summary.setText(String.format("%s: %,d steps.", title, trace.size()));
+        }
+    }
+
+    private static final class TraceModel extends AbstractTableModel {
+        private CrcTrace trace;
+
+        @Override
+        public int getRowCount() {
+            return trace == null ? 0 : trace.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return COLUMNS.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return COLUMNS[column];
+        }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            boolean byteStep = trace.kind(row) == CrcTrace.BYTE_STEP;
+            return switch (column) {
+                case 0 -> trace.step(row);
+                case 1 -> byteStep ? "Byte" : "Bit";
+                case 2 -> byteStep ? String.format("%8s", Integer.toBinaryString(trace.value(row))).replace(' ', '0') : String.valueOf(trace.value(row));
+                case 3 -> trace.index(row);
+                default -> trace.register(row);
+            };
+        }
+    }
+}
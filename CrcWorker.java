@@ -0,0 +1,143 @@
+package Java.CNDC;
+
+import javax.swing.*;
+import java.util.Locale;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Runs one encode/decode off the event dispatch thread.
+ * The job reports how many bits it has processed through {@link #advance}, which is also where a cancel request is
+ * noticed. Cancelling does not go through {@link SwingWorker#cancel}, which would run {@link #done} while the job
+ * thread is still working; the job unwinds at its next advance and done follows once it has returned. A Swing timer
+ * samples that counter, so the progress bar (percent and Mbit/s) is refreshed at most every 100 ms however fast the
+ * job runs. Log lines are collected in memory and appended to the output area in one update when the job ends,
+ * followed by the job's result action.
+ */
+final class CrcWorker extends SwingWorker<Runnable, Void> {
+    interface Job {
+        /**
+         * @return An action to apply the result on the event dispatch thread, or null.
+         */
+        Runnable run(CrcWorker worker) throws Exception;
+    }
+
+    private static final int REFRESH_MS = 100;
+    /** Returned by doInBackground when the job unwound after a cancel request. */
+    private static final Runnable CANCELLED = () -> { };
+
+    private final Job job;
+    private final long totalBits;
+    private final JTextArea output;
+    private final JProgressBar progressBar;
+    private final Runnable onFinished;
+    private final StringBuilder log = new StringBuilder();
+    private final Timer timer;
+    private volatile long bitsDone;
+    private volatile boolean cancelRequested;
+    private long startNanos;
+
+    /**
+     * @param totalBits Bits the job will process, for the percentage.
+     * @param output Area that receives the collected log when the job ends.
+     * @param progressBar Bar showing percent and throughput while the job runs.
+     * @param onFinished Called on the event dispatch thread after the log and result are applied, also on cancel.
+     */
+    CrcWorker(long totalBits, JTextArea output, JProgressBar progressBar, Runnable onFinished, Job job) {
+        this.job = job;
+        this.totalBits = Math.max(1, totalBits);
+        this.output = output;
+        this.progressBar = progressBar;
+        this.onFinished = onFinished;
+        this.timer = new Timer(REFRESH_MS, e -> refresh());
+    }
+
+    /**
+     * Starts the job; must be called on the event dispatch thread.
+     */
+    void start() {
+        startNanos = System.nanoTime();
+        progressBar.setValue(0);
+        progressBar.setString("0%");
+        progressBar.setVisible(true);
+        timer.start();
+        execute();
+    }
+
+    /**
+     * Asks the job to stop at its next {@link #advance}; the log and onFinished follow once it has unwound.
+     */
+    void requestCancel() {
+        cancelRequested = true;
+    }
+
+    /**
+     * Records progress from the job thread.
+     * @param bits Total bits processed so far.
+     * @throws CancellationException if the user pressed Cancel, to unwind the job.
+     */
+    void advance(long bits) {
+        bitsDone = bits;
+        if (cancelRequested) throw new CancellationException();
+    }
+
+    /**
+     * @return The log buffer of this run. Only the job thread writes to it; {@link #done} reads it after get() has
+     * returned, which orders the read after every write of the finished job.
+     */
+    StringBuilder log() {
+        return log;
+    }
+
+    /**
+     * @return Nanoseconds since the job was started.
+     */
+    long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    @Override
+    protected Runnable doInBackground() throws Exception {
+        try {
+            return job.run(this);
+        } catch (CancellationException ex) {
+            if (!cancelRequested) throw ex;
+            return CANCELLED;
+        }
+    }
+
+    private void refresh() {
+        long done = bitsDone;
+        int percent = (int) Math.min(100, done * 100 / totalBits);
+        double seconds = Math.max(elapsedNanos() / 1e9, 1e-9);
+        progressBar.setValue(percent);
+        progressBar.setString(String.format(Locale.ROOT, "%d%% | %.1f Mbit/s", percent, done / 1e6 / seconds));
+    }
+
+    @Override
+    protected void done() {
+        timer.stop();
+        progressBar.setVisible(false);
+        Runnable apply = null;
+        String error = null;
+        try {
+            apply = get();
+            if (apply == CANCELLED) {
+                apply = null;
+                log.append(String.format(Locale.ROOT, "Cancelled after %d of %d bits.\n\n", bitsDone, totalBits));
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            error = cause.getMessage() != null ? cause.getMessage() : cause.toString();
+            log.append("Failed: ").append(error).append("\n\n");
+        }
+        output.append(log.toString());
+        if (apply != null) apply.run();
+        onFinished.run();
+        if (error != null) {
+            JOptionPane.showMessageDialog(SwingUtilities.getWindowAncestor(output), error, "Error", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+}
@@ -0,0 +1,710 @@
+package Java.CNDC;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable polynomial over GF(2), bit-packed into long limbs (bit i of limb j is the coefficient of x^(64j+i)),
+ * with the algebra needed to judge a CRC generator: multiply, divide, gcd, modular exponentiation by squaring,
+ * the Rabin and Ben-Or irreducibility tests, factorization (square-free, distinct-degree, then Cantor-Zassenhaus
+ * equal-degree splitting), the period (order of x) and primitivity.
+ * A 2-bit error goes undetected when its bits are a multiple of the period apart, so the shortest codeword with an
+ * undetected 2-bit error has period + 1 bits and a CRC detects every 2-bit error in codewords of up to period bits.
+ * Limb products use the carry-less multiply of {@link CrcFoldingEngine}. Any degree works; degree-64 generators are
+ * analysed in well under a millisecond. The period needs the prime factors of 2^n - 1 for each factor degree n,
+ * taken from a table up to {@link #MERSENNE_TABLE_MAX} and found with a bounded Pollard rho above it.
+ */
+public final class Gf2Poly {
+    public static final Gf2Poly ZERO = new Gf2Poly(new long[0]);
+    public static final Gf2Poly ONE = valueOf(1);
+    public static final Gf2Poly X = valueOf(2);
+
+    /** Largest n whose factorization of 2^n - 1 is tabulated. */
+    public static final int MERSENNE_TABLE_MAX = 128;
+    /** Polynomial steps Pollard rho may take to split one composite before the factorization is given up. */
+    private static final int RHO_STEPS = 1 << 20;
+    /** Cached in place of a factorization that ran out of steps; compared by identity, so not the shared List.of(). */
+    private static final List<BigInteger> UNKNOWN = List.of(BigInteger.ZERO);
+    private static final Map<Integer, List<BigInteger>> MERSENNE_FACTORS = new ConcurrentHashMap<>();
+
+    /**
+     * An irreducible factor and how many times it divides the polynomial.
+     */
+    public record Factor(Gf2Poly poly, int multiplicity) {
+        @Override
+        public String toString() {
+            return "(" + poly + ")" + (multiplicity > 1 ? "^" + multiplicity : "");
+        }
+    }
+
+    private final long[] limbs; //trimmed: the top limb is non-zero, empty for ZERO
+    private final int degree;
+
+    private Gf2Poly(long[] limbs) {
+        int n = limbs.length;
+        while (n > 0 && limbs[n - 1] == 0) n--;
+        this.limbs = n == limbs.length ? limbs : Arrays.copyOf(limbs, n);
+        this.degree = n == 0 ? -1 : 64 * (n - 1) + 63 - Long.numberOfLeadingZeros(limbs[n - 1]);
+    }
+
+    /**
+     * @param bits Coefficients written highest degree first, as in the GUIs' polynomial fields, e.g. "100000111".
+     */
+    public static Gf2Poly of(String bits) {
+        if (!bits.matches("[01]+")) throw new IllegalArgumentException("Polynomial must contain only 0 and 1: " + bits);
+        long[] l = new long[(bits.length() + 63) / 64];
+        for (int i = 0; i < bits.length(); i++) {
+            if (bits.charAt(bits.length() - 1 - i) == '1') l[i >>> 6] |= 1L << i;
+        }
+        return new Gf2Poly(l);
+    }
+
+    public static Gf2Poly of(BigInteger bits) {
+        if (bits.signum() < 0) throw new IllegalArgumentException("Polynomial bits must not be negative");
+        long[] l = new long[(bits.bitLength() + 63) / 64];
+        for (int j = 0; j < l.length; j++) l[j] = bits.shiftRight(64 * j).longValue();
+        return new Gf2Poly(l);
+    }
+
+    /**
+     * @return The polynomial whose coefficients are the bits of the long (bit 63 is x^63).
+     */
+    public static Gf2Poly valueOf(long bits) {
+        return new Gf2Poly(new long[]{bits});
+    }
+
+    /**
+     * @return x^n.
+     */
+    public static Gf2Poly monomial(int n) {
+        long[] l = new long[n / 64 + 1];
+        l[n >>> 6] = 1L << n;
+        return new Gf2Poly(l);
+    }
+
+    /**
+     * @return The degree, -1 for the zero polynomial.
+     */
+    public int degree() {
+        return degree;
+    }
+
+    public boolean isZero() {
+        return degree < 0;
+    }
+
+    public boolean isOne() {
+        return degree == 0;
+    }
+
+    /**
+     * @return True if the coefficient of x^i is 1.
+     */
+    public boolean testBit(int i) {
+        return i >= 0 && i <= degree && (limbs[i >>> 6] >>> i & 1) != 0;
+    }
+
+    /**
+     * @return Number of non-zero coefficients.
+     */
+    public int weight() {
+        int w = 0;
+        for (long l : limbs) w += Long.bitCount(l);
+        return w;
+    }
+
+    public Gf2Poly add(Gf2Poly o) {
+        long[] a = Arrays.copyOf(limbs, Math.max(limbs.length, o.limbs.length));
+        for (int j = 0; j < o.limbs.length; j++) a[j] ^= o.limbs[j];
+        return new Gf2Poly(a);
+    }
+
+    public Gf2Poly multiply(Gf2Poly o) {
+        if (isZero() || o.isZero()) return ZERO;
+        long[] p = new long[limbs.length + o.limbs.length];
+        for (int i = 0; i < limbs.length; i++) {
+            long a = limbs[i];
+            if (a == 0) continue;
+            long ar = Long.reverse(a);
+            for (int j = 0; j < o.limbs.length; j++) {
+                long b = o.limbs[j];
+                p[i + j] ^= CrcFoldingEngine.clmulLo(a, b);
+                p[i + j + 1] ^= CrcFoldingEngine.clmulHiReversed(ar, Long.reverse(b));
+            }
+        }
+        return new Gf2Poly(p);
+    }
+
+    /**
+     * @return The square, by spreading every coefficient to twice its exponent (squaring is linear over GF(2)).
+     */
+    public Gf2Poly square() {
+        long[] p = new long[2 * limbs.length];
+        for (int j = 0; j < limbs.length; j++) {
+            p[2 * j] = spread((int) limbs[j]);
+            p[2 * j + 1] = spread((int) (limbs[j] >>> 32));
+        }
+        return new Gf2Poly(p);
+    }
+
+    /**
+     * @return The 32 bits of v moved to the even bit positions of a long.
+     */
+    private static long spread(int v) {
+        long x = v & 0xFFFFFFFFL;
+        x = (x | x << 16) & 0x0000FFFF0000FFFFL;
+        x = (x | x << 8) & 0x00FF00FF00FF00FFL;
+        x = (x | x << 4) & 0x0F0F0F0F0F0F0F0FL;
+        x = (x | x << 2) & 0x3333333333333333L;
+        x = (x | x << 1) & 0x5555555555555555L;
+        return x;
+    }
+
+    /**
+     * @return {quotient, remainder}.
+     * @throws ArithmeticException if the divisor is zero.
+     */
+    public Gf2Poly[] divideAndRemainder(Gf2Poly d) {
+        if (d.isZero()) throw new ArithmeticException("Division by the zero polynomial");
+        if (degree < d.degree) return new Gf2Poly[]{ZERO, this};
+        long[] r = limbs.clone();
+        long[] q = new long[(degree - d.degree) / 64 + 1];
+        for (int i = degree; i >= d.degree; i--) {
+            if ((r[i >>> 6] >>> i & 1) != 0) {
+                int s = i - d.degree;
+                q[s >>> 6] |= 1L << s;
+                xorShifted(r, d.limbs, s);
+            }
+        }
+        return new Gf2Poly[]{new Gf2Poly(q), new Gf2Poly(r)};
+    }
+
+    public Gf2Poly divide(Gf2Poly d) {
+        return divideAndRemainder(d)[0];
+    }
+
+    /**
+     * @return The remainder modulo m.
+     */
+    public Gf2Poly mod(Gf2Poly m) {
+        if (m.isZero()) throw new ArithmeticException("Division by the zero polynomial");
+        if (degree < m.degree) return this;
+        long[] r = limbs.clone();
+        for (int i = degree; i >= m.degree; i--) {
+            if ((r[i >>> 6] >>> i & 1) != 0) xorShifted(r, m.limbs, i - m.degree);
+        }
+        return new Gf2Poly(r);
+    }
+
+    /**
+     * XORs b * x^shift into a; a must be long enough.
+     */
+    private static void xorShifted(long[] a, long[] b, int shift) {
+        int word = shift >>> 6;
+        int bit = shift & 63;
+        for (int j = 0; j < b.length; j++) {
+            a[j + word] ^= b[j] << bit;
+            if (bit != 0 && j + word + 1 < a.length) a[j + word + 1] ^= b[j] >>> (64 - bit);
+        }
+    }
+
+    public Gf2Poly gcd(Gf2Poly o) {
+        Gf2Poly a = this, b = o;
+        while (!b.isZero()) {
+            Gf2Poly r = a.mod(b);
+            a = b;
+            b = r;
+        }
+        return a;
+    }
+
+    public Gf2Poly mulMod(Gf2Poly o, Gf2Poly m) {
+        return multiply(o).mod(m);
+    }
+
+    /**
+     * @return this^e mod m, by square-and-multiply.
+     */
+    public Gf2Poly powMod(BigInteger e, Gf2Poly m) {
+        if (e.signum() < 0) throw new IllegalArgumentException("Exponent must not be negative");
+        Gf2Poly result = ONE.mod(m);
+        Gf2Poly base = mod(m);
+        for (int i = e.bitLength() - 1; i >= 0; i--) {
+            result = result.square().mod(m);
+            if (e.testBit(i)) result = result.mulMod(base, m);
+        }
+        return result;
+    }
+
+    /**
+     * @return The formal derivative: the odd-exponent terms, each moved down by one.
+     */
+    public Gf2Poly derivative() {
+        long[] d = new long[limbs.length];
+        for (int j = 0; j < limbs.length; j++) d[j] = (limbs[j] & 0xAAAAAAAAAAAAAAAAL) >>> 1;
+        return new Gf2Poly(d);
+    }
+
+    /**
+     * @return The square root of a polynomial with only even exponents (any square over GF(2)).
+     */
+    private Gf2Poly sqrt() {
+        long[] r = new long[(limbs.length + 1) / 2];
+        for (int i = 0; i <= degree; i += 2) {
+            if (testBit(i)) r[i >>> 7] |= 1L << (i >>> 1);
+        }
+        return new Gf2Poly(r);
+    }
+
+    /**
+     * Rabin's test: f of degree n is irreducible iff x^(2^n) = x mod f and gcd(x^(2^(n/q)) - x, f) = 1 for
+     * every prime q dividing n. Costs n modular squarings and one gcd per prime factor of n.
+     */
+    public boolean isIrreducible() {
+        if (degree < 1) return false;
+        if (degree == 1) return true;
+        if (!testBit(0)) return false;
+        List<Integer> primes = primeFactors(degree);
+        Gf2Poly[] at = new Gf2Poly[primes.size()];
+        Gf2Poly h = X;
+        for (int i = 1; i <= degree; i++) {
+            h = h.square().mod(this);
+            for (int k = 0; k < at.length; k++) {
+                if (i == degree / primes.get(k)) at[k] = h;
+            }
+        }
+        if (!h.equals(X)) return false;
+        for (Gf2Poly g : at) {
+            if (!g.add(X).gcd(this).isOne()) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Ben-Or's test: f of degree n is irreducible iff gcd(x^(2^i) - x, f) = 1 for i = 1 to n/2. Stops at the first
+     * small factor, so it rejects random reducible candidates faster than {@link #isIrreducible()}.
+     */
+    public boolean isIrreducibleBenOr() {
+        if (degree < 1) return false;
+        if (degree == 1) return true;
+        if (!testBit(0)) return false;
+        Gf2Poly h = X;
+        for (int i = 1; i <= degree / 2; i++) {
+            h = h.square().mod(this);
+            if (!h.add(X).gcd(this).isOne()) return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return The irreducible factors with multiplicities, by degree then value; empty for constants.
+     */
+    public List<Factor> factor() {
+        if (isZero()) throw new ArithmeticException("The zero polynomial has no factorization");
+        List<Factor> factors = new ArrayList<>();
+        SplittableRandom random = new SplittableRandom(degree);
+        for (Factor part : squareFree()) {
+            for (Factor block : distinctDegree(part.poly())) {
+                List<Gf2Poly> irreducibles = new ArrayList<>();
+                equalDegree(block.poly(), block.multiplicity(), random, irreducibles);
+                for (Gf2Poly p : irreducibles) factors.add(new Factor(p, part.multiplicity()));
+            }
+        }
+        factors.sort(Comparator.comparingInt((Factor f) -> f.poly().degree()).thenComparing(f -> f.poly().toBigInteger()));
+        return factors;
+    }
+
+    /**
+     * Square-free factorization in characteristic 2: pairs (g, i) with g square-free and this = product of g^i.
+     */
+    private List<Factor> squareFree() {
+        List<Factor> result = new ArrayList<>();
+        Gf2Poly c = gcd(derivative());
+        Gf2Poly w = divide(c);
+        int i = 1;
+        while (!w.isOne()) {
+            Gf2Poly y = w.gcd(c);
+            Gf2Poly fac = w.divide(y);
+            if (!fac.isOne()) result.add(new Factor(fac, i));
+            w = y;
+            c = c.divide(y);
+            i++;
+        }
+        if (!c.isOne()) {
+            for (Factor f : c.sqrt().squareFree()) result.add(new Factor(f.poly(), 2 * f.multiplicity()));
+        }
+        return result;
+    }
+
+    /**
+     * Distinct-degree factorization of a square-free polynomial: pairs (product of all its irreducible factors of
+     * degree d, d).
+     */
+    private static List<Factor> distinctDegree(Gf2Poly f) {
+        List<Factor> result = new ArrayList<>();
+        Gf2Poly h = X.mod(f);
+        int d = 1;
+        while (f.degree >= 2 * d) {
+            h = h.square().mod(f);
+            Gf2Poly g = f.gcd(h.add(X));
+            if (!g.isOne()) {
+                result.add(new Factor(g, d));
+                f = f.divide(g);
+                h = h.mod(f);
+            }
+            d++;
+        }
+        if (f.degree > 0) result.add(new Factor(f, f.degree));
+        return result;
+    }
+
+    /**
+     * Cantor-Zassenhaus splitting of a product of distinct irreducibles of degree d: for random a, the trace
+     * a + a^2 + ... + a^(2^(d-1)) mod f is 0 or 1 modulo each factor, so its gcd with f splits f about half the time.
+     */
+    private static void equalDegree(Gf2Poly f, int d, SplittableRandom random, List<Gf2Poly> out) {
+        if (f.degree == d) {
+            out.add(f);
+            return;
+        }
+        while (true) {
+            long[] r = new long[f.limbs.length];
+            for (int j = 0; j < r.length; j++) r[j] = random.nextLong();
+            Gf2Poly a = new Gf2Poly(r).mod(f);
+            Gf2Poly t = a;
+            Gf2Poly s = a;
+            for (int i = 1; i < d; i++) {
+                s = s.square().mod(f);
+                t = t.add(s);
+            }
+            Gf2Poly g = t.gcd(f);
+            if (g.degree > 0 && g.degree < f.degree) {
+                equalDegree(g, d, random, out);
+                equalDegree(f.divide(g), d, random, out);
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return The period: the least e > 0 with x^e = 1 mod this, or null if x is not invertible (no constant term),
+     * the polynomial is constant, or an irreducible factor has a degree d above {@link #MERSENNE_TABLE_MAX} for which
+     * 2^d - 1 could not be factored. Built from the factorization: an irreducible factor p of degree d has an order
+     * dividing 2^d - 1, and p^k multiplies it by the least power of 2 that is at least k.
+     */
+    public BigInteger order() {
+        if (degree < 1 || !testBit(0)) return null;
+        BigInteger order = BigInteger.ONE;
+        for (Factor f : factor()) {
+            BigInteger e = orderIrreducible(f.poly());
+            if (e == null) return null;
+            int t = 32 - Integer.numberOfLeadingZeros(f.multiplicity() - 1);
+            e = e.shiftLeft(t);
+            order = order.divide(order.gcd(e)).multiply(e);
+        }
+        return order;
+    }
+
+    /**
+     * @return The order of x modulo the irreducible p, or null if 2^degree - 1 could not be factored.
+     */
+    private static BigInteger orderIrreducible(Gf2Poly p) {
+        List<BigInteger> primes = mersenneFactors(p.degree);
+        if (primes == null) return null;
+        BigInteger n = BigInteger.ONE.shiftLeft(p.degree).subtract(BigInteger.ONE);
+        for (BigInteger q : primes) {
+            while (n.mod(q).signum() == 0 && X.powMod(n.divide(q), p).isOne()) n = n.divide(q);
+        }
+        return n;
+    }
+
+    /**
+     * @return True if irreducible with period 2^degree - 1, i.e. x generates the whole multiplicative group.
+     * @throws IllegalArgumentException if the degree is above {@link #MERSENNE_TABLE_MAX} and 2^degree - 1 could
+     * not be factored.
+     */
+    public boolean isPrimitive() {
+        if (!isIrreducible() || !testBit(0)) return false;
+        BigInteger order = orderIrreducible(this);
+        if (order == null) throw new IllegalArgumentException("Could not factor 2^" + degree + " - 1 to test primitivity");
+        return order.equals(BigInteger.ONE.shiftLeft(degree).subtract(BigInteger.ONE));
+    }
+
+    /**
+     * @return The distinct prime factors of 2^n - 1, ascending and cached per n, or null if n is above
+     * {@link #MERSENNE_TABLE_MAX} and Pollard rho ran out of steps. The factoring runs outside the cache's lock,
+     * so a slow degree does not hold up callers asking for the same one; concurrent first callers may both factor.
+     */
+    static List<BigInteger> mersenneFactors(int n) {
+        List<BigInteger> primes = MERSENNE_FACTORS.get(n);
+        if (primes == null) {
+            primes = n <= MERSENNE_TABLE_MAX ? tabulatedFactors(n) : factorMersenne(n);
+            primes = MERSENNE_FACTORS.merge(n, primes, (old, found) -> old);
+        }
+        return primes == UNKNOWN ? null : primes;
+    }
+
+    private static List<BigInteger> tabulatedFactors(int n) {
+        if (n < 2) return List.of();
+        String row = MERSENNE_TABLE[n - 2];
+        List<BigInteger> primes = new ArrayList<>();
+        for (String p : row.substring(row.indexOf(':') + 2).split(" ")) primes.add(new BigInteger(p));
+        return List.copyOf(primes);
+    }
+
+    private static List<BigInteger> factorMersenne(int n) {
+        List<BigInteger> primes = new ArrayList<>();
+        if (!factorInteger(BigInteger.ONE.shiftLeft(n).subtract(BigInteger.ONE), primes)) return UNKNOWN;
+        primes.sort(null);
+        return List.copyOf(primes.stream().distinct().toList());
+    }
+
+    /**
+     * @return False if a composite part could not be split within {@link #RHO_STEPS}.
+     */
+    private static boolean factorInteger(BigInteger n, List<BigInteger> primes) {
+        for (int p = 2; p < 1000 && n.compareTo(BigInteger.ONE) > 0; p++) {
+            BigInteger bp = BigInteger.valueOf(p);
+            while (n.mod(bp).signum() == 0) {
+                primes.add(bp);
+                n = n.divide(bp);
+            }
+        }
+        return splitInteger(n, primes);
+    }
+
+    private static boolean splitInteger(BigInteger n, List<BigInteger> primes) {
+        if (n.compareTo(BigInteger.ONE) <= 0) return true;
+        if (n.isProbablePrime(40)) {
+            primes.add(n);
+            return true;
+        }
+        BigInteger d = pollardBrent(n);
+        return d != null && splitInteger(d, primes) && splitInteger(n.divide(d), primes);
+    }
+
+    /**
+     * Brent's variant of Pollard's rho: a non-trivial factor of the composite n, or null after {@link #RHO_STEPS}
+     * steps, which finds factors up to about 40 bits.
+     */
+    private static BigInteger pollardBrent(BigInteger n) {
+        long steps = 0;
+        for (long c = 1; steps < RHO_STEPS; c++) {
+            BigInteger bc = BigInteger.valueOf(c);
+            BigInteger y = BigInteger.TWO, x = y, g = BigInteger.ONE, q = BigInteger.ONE, ys = y;
+            int r = 1;
+            while (g.equals(BigInteger.ONE)) {
+                if (steps > RHO_STEPS) return null;
+                steps += 2L * r;
+                x = y;
+                for (int i = 0; i < r; i++) y = y.multiply(y).add(bc).mod(n);
+                for (int k = 0; k < r && g.equals(BigInteger.ONE); k += 128) {
+                    ys = y;
+                    for (int i = 0; i < Math.min(128, r - k); i++) {
+                        y = y.multiply(y).add(bc).mod(n);
+                        q = q.multiply(x.subtract(y).abs()).mod(n);
+                    }
+                    g = q.gcd(n);
+                }
+                r <<= 1;
+            }
+            if (g.equals(n)) {
+                do {
+                    ys = ys.multiply(ys).add(bc).mod(n);
+                    g = x.subtract(ys).abs().gcd(n);
+                } while (g.equals(BigInteger.ONE));
+            }
+            if (!g.equals(n)) return g;
+        }
+        return null;
+    }
+
+    private static List<Integer> primeFactors(int n) {
+        List<Integer> primes = new ArrayList<>();
+        for (int p = 2; p * p <= n; p++) {
+            if (n % p == 0) {
+                primes.add(p);
+                while (n % p == 0) n /= p;
+            }
+        }
+        if (n > 1) primes.add(n);
+        return primes;
+    }
+
+    public BigInteger toBigInteger() {
+        BigInteger v = BigInteger.ZERO;
+        for (int j = limbs.length - 1; j >= 0; j--) {
+            v = v.shiftLeft(64).or(new BigInteger(Long.toUnsignedString(limbs[j])));
+        }
+        return v;
+    }
+
+    /**
+     * @return The coefficients highest degree first, "0" for zero.
+     */
+    public String toBinaryString() {
+        return isZero() ? "0" : toBigInteger().toString(2);
+    }
+
+    /**
+     * @return The polynomial in x notation, e.g. "x^8 + x^2 + x + 1".
+     */
+    @Override
+    public String toString() {
+        if (isZero()) return "0";
+        StringBuilder sb = new StringBuilder();
+        for (int i = degree; i >= 0; i--) {
+            if (!testBit(i)) continue;
+            if (sb.length() > 0) sb.append(" + ");
+            sb.append(i == 0 ? "1" : i == 1 ? "x" : "x^" + i);
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Gf2Poly p && Arrays.equals(limbs, p.limbs);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(limbs);
+    }
+
+    /** Distinct prime factors of 2^n - 1 for n = 2 to {@link #MERSENNE_TABLE_MAX}, as in the Cunningham tables. */
+    private static final String[] MERSENNE_TABLE = {
+            "2: 3",
+            "3: 7",
+            "4: 3 5",
+            "5: 31",
+            "6: 3 7",
+            "7: 127",
+            "8: 3 5 17",
+            "9: 7 73",
+            "10: 3 11 31",
+            "11: 23 89",
+            "12: 3 5 7 13",
+            "13: 8191",
+            "14: 3 43 127",
+            "15: 7 31 151",
+            "16: 3 5 17 257",
+            "17: 131071",
+            "18: 3 7 19 73",
+            "19: 524287",
+            "20: 3 5 11 31 41",
+            "21: 7 127 337",
+            "22: 3 23 89 683",
+            "23: 47 178481",
+            "24: 3 5 7 13 17 241",
+            "25: 31 601 1801",
+            "26: 3 2731 8191",
+            "27: 7 73 262657",
+            "28: 3 5 29 43 113 127",
+            "29: 233 1103 2089",
+            "30: 3 7 11 31 151 331",
+            "31: 2147483647",
+            "32: 3 5 17 257 65537",
+            "33: 7 23 89 599479",
+            "34: 3 43691 131071",
+            "35: 31 71 127 122921",
+            "36: 3 5 7 13 19 37 73 109",
+            "37: 223 616318177",
+            "38: 3 174763 524287",
+            "39: 7 79 8191 121369",
+            "40: 3 5 11 17 31 41 61681",
+            "41: 13367 164511353",
+            "42: 3 7 43 127 337 5419",
+            "43: 431 9719 2099863",
+            "44: 3 5 23 89 397 683 2113",
+            "45: 7 31 73 151 631 23311",
+            "46: 3 47 178481 2796203",
+            "47: 2351 4513 13264529",
+            "48: 3 5 7 13 17 97 241 257 673",
+            "49: 127 4432676798593",
+            "50: 3 11 31 251 601 1801 4051",
+            "51: 7 103 2143 11119 131071",
+            "52: 3 5 53 157 1613 2731 8191",
+            "53: 6361 69431 20394401",
+            "54: 3 7 19 73 87211 262657",
+            "55: 23 31 89 881 3191 201961",
+            "56: 3 5 17 29 43 113 127 15790321",
+            "57: 7 32377 524287 1212847",
+            "58: 3 59 233 1103 2089 3033169",
+            "59: 179951 3203431780337",
+            "60: 3 5 7 11 13 31 41 61 151 331 1321",
+            "61: 2305843009213693951",
+            "62: 3 715827883 2147483647",
+            "63: 7 73 127 337 92737 649657",
+            "64: 3 5 17 257 641 65537 6700417",
+            "65: 31 8191 145295143558111",
+            "66: 3 7 23 67 89 683 20857 599479",
+            "67: 193707721 761838257287",
+            "68: 3 5 137 953 26317 43691 131071",
+            "69: 7 47 178481 10052678938039",
+            "70: 3 11 31 43 71 127 281 86171 122921",
+            "71: 228479 48544121 212885833",
+            "72: 3 5 7 13 17 19 37 73 109 241 433 38737",
+            "73: 439 2298041 9361973132609",
+            "74: 3 223 1777 25781083 616318177",
+            "75: 7 31 151 601 1801 100801 10567201",
+            "76: 3 5 229 457 174763 524287 525313",
+            "77: 23 89 127 581283643249112959",
+            "78: 3 7 79 2731 8191 121369 22366891",
+            "79: 2687 202029703 1113491139767",
+            "80: 3 5 11 17 31 41 257 61681 4278255361",
+            "81: 7 73 2593 71119 262657 97685839",
+            "82: 3 83 13367 164511353 8831418697",
+            "83: 167 57912614113275649087721",
+            "84: 3 5 7 13 29 43 113 127 337 1429 5419 14449",
+            "85: 31 131071 9520972806333758431",
+            "86: 3 431 9719 2099863 2932031007403",
+            "87: 7 233 1103 2089 4177 9857737155463",
+            "88: 3 5 17 23 89 353 397 683 2113 2931542417",
+            "89: 618970019642690137449562111",
+            "90: 3 7 11 19 31 73 151 331 631 23311 18837001",
+            "91: 127 911 8191 112901153 23140471537",
+            "92: 3 5 47 277 1013 1657 30269 178481 2796203",
+            "93: 7 2147483647 658812288653553079",
+            "94: 3 283 2351 4513 13264529 165768537521",
+            "95: 31 191 524287 420778751 30327152671",
+            "96: 3 5 7 13 17 97 193 241 257 673 65537 22253377",
+            "97: 11447 13842607235828485645766393",
+            "98: 3 43 127 4363953127297 4432676798593",
+            "99: 7 23 73 89 199 153649 599479 33057806959",
+            "100: 3 5 11 31 41 101 251 601 1801 4051 8101 268501",
+            "101: 7432339208719 341117531003194129",
+            "102: 3 7 103 307 2143 2857 6529 11119 43691 131071",
+            "103: 2550183799 3976656429941438590393",
+            "104: 3 5 17 53 157 1613 2731 8191 858001 308761441",
+            "105: 7 31 71 127 151 337 29191 106681 122921 152041",
+            "106: 3 107 6361 69431 20394401 28059810762433",
+            "107: 162259276829213363391578010288127",
+            "108: 3 5 7 13 19 37 73 109 87211 246241 262657 279073",
+            "109: 745988807 870035986098720987332873",
+            "110: 3 11 23 31 89 683 881 2971 3191 201961 48912491",
+            "111: 7 223 321679 26295457 319020217 616318177",
+            "112: 3 5 17 29 43 113 127 257 5153 15790321 54410972897",
+            "113: 3391 23279 65993 1868569 1066818132868207",
+            "114: 3 7 571 32377 174763 524287 1212847 160465489",
+            "115: 31 47 14951 178481 4036961 2646507710984041",
+            "116: 3 5 59 233 1103 2089 3033169 107367629 536903681",
+            "117: 7 73 79 937 6553 8191 86113 121369 7830118297",
+            "118: 3 2833 37171 179951 1824726041 3203431780337",
+            "119: 127 239 20231 131071 62983048367 131105292137",
+            "120: 3 5 7 11 13 17 31 41 61 151 241 331 1321 61681 4562284561",
+            "121: 23 89 727 1786393878363164227858270210279",
+            "122: 3 768614336404564651 2305843009213693951",
+            "123: 7 13367 3887047 164511353 177722253954175633",
+            "124: 3 5 5581 8681 49477 384773 715827883 2147483647",
+            "125: 31 601 1801 269089806001 4710883168879506001",
+            "126: 3 7 19 43 73 127 337 5419 92737 649657 77158673929",
+            "127: 170141183460469231731687303715884105727",
+            "128: 3 5 17 257 641 65537 274177 6700417 67280421310721"
+    };
+}
@@ -0,0 +1,103 @@
+package Java.CNDC;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the primitive CRC engines over a byte array, for every predefined polynomial and input sizes from
+ * 64 bytes to 64 MiB. Scores are operations (whole inputs) per second; multiply by size for bytes per second.
+ * slicing8UnalignedBitMessage appends 5 bits to the input, which the single-table engine finishes with one tail lookup.
+ * Run with -prof gc to see the allocation rate, which should be zero per byte for every engine.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CrcEngineBenchmark {
+    @Param({"CRC3GSM", "CRC5USB", "CRC7MMC", "CRC8", "CRC8Bluetooth", "CRC8CCITT", "CRC12", "CRC16CCITT", "CRC16MODBUS", "CRC24", "CRC32",
+            "CRC32ISOHDLC", "CRC32C", "CRC64ISO", "CRC64XZ"})
+    public predefinedCRC crc;
+
+    @Param({"64", "4096", "262144", "16777216", "67108864"})
+    public int size;
+
+    private byte[] bytes;
+    private BitMessage message;
+    private BitMessage unaligned;
+    private CrcLongEngine single;
+    private CrcSlicingEngine slicing8;
+    private CrcSlicingEngine slicing16;
+    private CrcReflectedEngine reflected;
+    private CrcFoldingEngine folding;
+    private CrcParallel parallel;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        bytes = new byte[size];
+        new SplittableRandom(42).nextBytes(bytes);
+        message = BitMessage.ofBytes(bytes);
+        unaligned = message.append(0b10110, 5);
+        long polyLow = crc.getPolyLow();
+        int degree = crc.getDegree();
+        single = new CrcLongEngine(polyLow, degree);
+        slicing8 = new CrcSlicingEngine(polyLow, degree, 8);
+        slicing16 = new CrcSlicingEngine(polyLow, degree, 16);
+        reflected = new CrcReflectedEngine(polyLow, degree);
+        folding = new CrcFoldingEngine(polyLow, degree);
+        parallel = new CrcParallel(polyLow, degree, 8, false, CrcParallel.DEFAULT_CHUNK_BYTES, Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        parallel.close();
+    }
+
+    @Benchmark
+    public long sarwate() {
+        return single.update(0, bytes, 0, bytes.length);
+    }
+
+    @Benchmark
+    public long slicing8() {
+        return slicing8.update(0, bytes, 0, bytes.length);
+    }
+
+    @Benchmark
+    public long slicing16() {
+        return slicing16.update(0, bytes, 0, bytes.length);
+    }
+
+    @Benchmark
+    public long slicing8BitMessage() {
+        return slicing8.remainder(message);
+    }
+
+    @Benchmark
+    public long slicing8UnalignedBitMessage() {
+        return slicing8.remainder(unaligned);
+    }
+
+    @Benchmark
+    public long folding() {
+        return folding.update(0, bytes, 0, bytes.length);
+    }
+
+    @Benchmark
+    public long reflected() {
+        return reflected.update(0, bytes, 0, bytes.length);
+    }
+
+    @Benchmark
+    public long model() {
+        return crc.checksum(bytes, 0, bytes.length);
+    }
+
+    @Benchmark
+    public long parallel() {
+        return parallel.update(0, bytes, 0, bytes.length);
+    }
+}
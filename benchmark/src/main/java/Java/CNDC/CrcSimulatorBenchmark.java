@@ -0,0 +1,78 @@
+package Java.CNDC;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the simulators' own algorithms: String bitwise and lookup ({@link CrcStringEngine}) and BigInteger
+ * bitwise and lookup ({@link CrcBigIntegerEngine}), next to the engine {@link CrcEngineSelector} picks for the same run, for
+ * every predefined polynomial.
+ * These algorithms work per character or per BigInteger and grow much faster than the engines, so the default sizes
+ * stop at 16 KiB; pass e.g. -p size=1048576 to go further. Run with -prof gc for the allocation rate.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CrcSimulatorBenchmark {
+    @Param({"CRC3GSM", "CRC5USB", "CRC7MMC", "CRC8", "CRC8Bluetooth", "CRC8CCITT", "CRC12", "CRC16CCITT", "CRC16MODBUS", "CRC24", "CRC32",
+            "CRC32ISOHDLC", "CRC32C", "CRC64ISO", "CRC64XZ"})
+    public predefinedCRC crc;
+
+    @Param({"64", "1024", "16384"})
+    public int size;
+
+    private BitMessage message;
+    private CrcEngine stringBitwise;
+    private CrcEngine stringLookup;
+    private CrcEngine bigIntBitwise;
+    private CrcEngine bigIntLookup;
+    private CrcEngine selected;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        byte[] bytes = new byte[size];
+        new SplittableRandom(42).nextBytes(bytes);
+        message = BitMessage.ofBytes(bytes);
+        String polyBits = crc.getPoly();
+        stringBitwise = new CrcStringEngine(polyBits, false);
+        stringLookup = new CrcStringEngine(polyBits, true);
+        bigIntBitwise = CrcBigIntegerEngine.of(polyBits);
+        bigIntLookup = CrcBigIntegerEngine.of(polyBits, true);
+        selected = CrcEngineSelector.select(CrcEngineSelector.Backend.AUTO, polyBits, message.length(), false, 1).engine();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        selected.close();
+    }
+
+    @Benchmark
+    public BitMessage stringBitwise() {
+        return stringBitwise.compute(message, null, null);
+    }
+
+    @Benchmark
+    public BitMessage stringLookup() {
+        return stringLookup.compute(message, null, null);
+    }
+
+    @Benchmark
+    public BitMessage bigIntBitwise() {
+        return bigIntBitwise.compute(message, null, null);
+    }
+
+    @Benchmark
+    public BitMessage bigIntLookup() {
+        return bigIntLookup.compute(message, null, null);
+    }
+
+    @Benchmark
+    public BitMessage selected() {
+        return selected.compute(message, null, null);
+    }
+}
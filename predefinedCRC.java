@@ -1,24 +1,103 @@
 package Java.CNDC;
 
+/**
+ * Predefined CRCs with their full Rocksoft parameter model: polynomial, initial register, input/output reflection
+ * and final XOR, plus the standard check value (the CRC of the ASCII string "123456789").
+ * The original entries are plain MSB-first CRCs with zero init and no final XOR, as computed by the simulators;
+ * the catalogued ones (CRC-16/MODBUS, CRC-32/ISO-HDLC, ...) are what real protocols put on the wire.
+ */
 public enum predefinedCRC {
     CUSTOM("Custom CRC",""),
-    CRC8("CRC-8","111010101"),
-    CRC8Bluetooth("CRC-8-Bluetooth","110100111"),
-    CRC8CCITT("CRC-8-CCITT","100000111"),
-    CRC12("CRC-12","1100000001111"),
-    CRC16CCITT("CRC-16-CCITT","10001000000100001"),
-    CRC24("CRC-24","1010111010110110111001011"),
-    CRC32("CRC-32","100000100110000010001110110110111"),
-    CRC64ISO("CRC-64-ISO","10000000000000000000000000000000000000000000000000000000000011011");
+    CRC3GSM("CRC-3/GSM","1011", 0, false, false, 0x7, 0x4),
+    CRC5USB("CRC-5/USB","100101", 0x1F, true, true, 0x1F, 0x19),
+    CRC7MMC("CRC-7/MMC","10001001", 0, false, false, 0, 0x75),
+    CRC8("CRC-8","111010101", 0, false, false, 0, 0xBC),
+    CRC8Bluetooth("CRC-8-Bluetooth","110100111", 0, false, false, 0, 0x76),
+    CRC8CCITT("CRC-8-CCITT","100000111", 0, false, false, 0, 0xF4),
+    CRC12("CRC-12","1100000001111", 0, false, false, 0, 0xF5B),
+    CRC16CCITT("CRC-16-CCITT","10001000000100001", 0, false, false, 0, 0x31C3),
+    CRC16MODBUS("CRC-16/MODBUS","11000000000000101", 0xFFFF, true, true, 0, 0x4B37),
+    CRC24("CRC-24","1010111010110110111001011", 0, false, false, 0, 0xB0C390),
+    CRC32("CRC-32","100000100110000010001110110110111", 0, false, false, 0, 0x89A1897FL),
+    CRC32ISOHDLC("CRC-32/ISO-HDLC","100000100110000010001110110110111", 0xFFFFFFFFL, true, true, 0xFFFFFFFFL, 0xCBF43926L),
+    CRC32C("CRC-32C","100011110110111000110111101000001", 0xFFFFFFFFL, true, true, 0xFFFFFFFFL, 0xE3069283L),
+    CRC64ISO("CRC-64-ISO","10000000000000000000000000000000000000000000000000000000000011011", 0, false, false, 0, 0xE4FFBEA588933790L),
+    CRC64XZ("CRC-64/XZ","10100001011110000111000011110101110101001111010100011011010010011", -1L, true, true, -1L, 0x995DC9BBDF1939FAL);
 
     private final String name;
     private final String poly;
+    private final long init;
+    private final boolean refIn;
+    private final boolean refOut;
+    private final long xorOut;
+    private final long check;
 
     predefinedCRC(String name, String poly) {
+        this(name, poly, 0, false, false, 0, 0);
+    }
+
+    predefinedCRC(String name, String poly, long init, boolean refIn, boolean refOut, long xorOut, long check) {
         this.name = name;
         this.poly = poly;
+        this.init = init;
+        this.refIn = refIn;
+        this.refOut = refOut;
+        this.xorOut = xorOut;
+        this.check = check;
     }
 
     @Override public String toString() { return name; }
     public String getPoly() {return poly;}
+    public int getDegree() {return poly.length() - 1;}
+    public long getInit() {return init;}
+    public boolean isRefIn() {return refIn;}
+    public boolean isRefOut() {return refOut;}
+    public long getXorOut() {return xorOut;}
+    public long getCheck() {return check;}
+
+    /**
+     * @return The polynomial without its leading x^degree term, as the engines take it.
+     */
+    public long getPolyLow() {
+        return Long.parseUnsignedLong(poly.substring(1), 2);
+    }
+
+    /**
+     * @return True for zero init, no reflection and no final XOR, i.e. the plain remainder the simulators compute.
+     */
+    public boolean isPlain() {
+        return init == 0 && !refIn && !refOut && xorOut == 0;
+    }
+
+    /**
+     * @return The register to start from, in the domain of the engine used (reflected when refIn).
+     */
+    public long initialRegister() {
+        return refIn ? CrcReflectedEngine.reflect(init, getDegree()) : init;
+    }
+
+    /**
+     * Turns a final register (in the engine's domain) into the checksum by applying refOut and xorOut.
+     */
+    public long finish(long register) {
+        long value = refIn == refOut ? register : CrcReflectedEngine.reflect(register, getDegree());
+        return value ^ xorOut;
+    }
+
+    /**
+     * @return The checksum of the bytes under this model; see {@link Crc} for incremental use.
+     */
+    public long checksum(byte[] bytes, int off, int len) {
+        Crc crc = new Crc(this);
+        crc.update(bytes, off, len);
+        return crc.getValue();
+    }
+
+    /**
+     * @return True if the checksum of "123456789" matches the catalogued check value.
+     */
+    public boolean selfTest() {
+        byte[] digits = "123456789".getBytes(java.nio.charset.StandardCharsets.US_ASCII);
+        return checksum(digits, 0, digits.length) == check;
+    }
 }